@@ -1,6 +1,8 @@
 package seedu.flashcard;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -9,10 +11,12 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 
 import seedu.flashcard.commons.core.Config;
+import seedu.flashcard.commons.core.FlashcardListFormat;
 import seedu.flashcard.commons.core.LogsCenter;
 import seedu.flashcard.commons.core.Version;
 import seedu.flashcard.commons.exceptions.DataConversionException;
 import seedu.flashcard.commons.util.ConfigUtil;
+import seedu.flashcard.commons.util.FileUtil;
 import seedu.flashcard.commons.util.StringUtil;
 import seedu.flashcard.logic.Logic;
 import seedu.flashcard.logic.LogicManager;
@@ -21,9 +25,12 @@ import seedu.flashcard.model.ModelManager;
 import seedu.flashcard.model.ReadOnlyFlashcardList;
 import seedu.flashcard.model.ReadOnlyUserPrefs;
 import seedu.flashcard.model.UserPrefs;
+import seedu.flashcard.model.flashcard.DefinitionSegment;
+import seedu.flashcard.model.flashcard.exceptions.DuplicateCardException;
 import seedu.flashcard.model.util.SampleDataUtil;
+import seedu.flashcard.storage.FlashcardListConverter;
 import seedu.flashcard.storage.FlashcardStorage;
-import seedu.flashcard.storage.JsonFlashcardListStorage;
+import seedu.flashcard.storage.JournaledFlashcardListStorage;
 import seedu.flashcard.storage.JsonUserPrefsStorage;
 import seedu.flashcard.storage.Storage;
 import seedu.flashcard.storage.StorageManager;
@@ -45,6 +52,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected DefinitionSegment definitionSegment;
 
     @Override
     public void init() throws Exception {
@@ -56,11 +64,12 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        FlashcardStorage flashcardStorage = new JsonFlashcardListStorage(userPrefs.getFlashcardListFilePath());
-        storage = new StorageManager(flashcardStorage, userPrefsStorage);
-
         initLogging(config);
 
+        definitionSegment = initDefinitionSegment(userPrefs);
+        FlashcardStorage flashcardStorage = initFlashcardStorage(userPrefs);
+        storage = new StorageManager(flashcardStorage, userPrefsStorage);
+
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
@@ -91,7 +100,66 @@ public class MainApp extends Application {
                 + "Will be starting with the default flashcard list.");
             initialData = SampleDataUtil.getSampleFlashcardList();
         }
-        return new ModelManager(initialData, userPrefs);
+        try {
+            return new ModelManager(initialData, userPrefs);
+        } catch (UncheckedIOException | DuplicateCardException e) {
+            // Flashcards read from a mapped file are checked against their checksums when it is opened,
+            // but their values are only checked as the model loads them
+            logger.warning("Data file not in the correct format: " + e.getMessage()
+                + ". Will be starting with the default flashcard list.");
+            return new ModelManager(SampleDataUtil.getSampleFlashcardList(), userPrefs);
+        }
+    }
+
+    /**
+     * Returns a {@code DefinitionSegment} next to the flashcard list file if {@code userPrefs} asks for
+     * definitions to be kept on disk, or null if it does not or the segment cannot be opened.
+     */
+    private DefinitionSegment initDefinitionSegment(ReadOnlyUserPrefs userPrefs) {
+        if (!userPrefs.isDefinitionsOnDisk()) {
+            return null;
+        }
+        Path flashcardListFilePath = userPrefs.getFlashcardListFilePath();
+        Path segmentFilePath =
+            flashcardListFilePath.resolveSibling(flashcardListFilePath.getFileName() + ".definitions");
+        logger.info("Keeping definitions in " + segmentFilePath);
+        try {
+            FileUtil.createParentDirsOfFile(segmentFilePath);
+            return new DefinitionSegment(segmentFilePath, DefinitionSegment.DEFAULT_CACHE_SIZE);
+        } catch (IOException e) {
+            logger.warning("Failed to open definition segment, keeping definitions in memory: "
+                + StringUtil.getDetails(e));
+            return null;
+        }
+    }
+
+    /**
+     * Returns a storage for the flashcard list in the format {@code userPrefs} asks for, journaled if the config
+     * asks for it. If there is no flashcard list in that format yet, one saved in another format is converted.
+     */
+    private FlashcardStorage initFlashcardStorage(ReadOnlyUserPrefs userPrefs) {
+        Path preferredFilePath = userPrefs.getFlashcardListFilePath();
+        Path filePath = userPrefs.getFlashcardListFormat().toFilePath(preferredFilePath);
+        FlashcardStorage flashcardStorage =
+            FlashcardListConverter.createStorage(filePath, definitionSegment, config.isCompactJson());
+        if (!Files.exists(filePath) && !Files.exists(FileUtil.getBackupPath(filePath))) {
+            for (FlashcardListFormat otherFormat : FlashcardListFormat.values()) {
+                Path otherFilePath = otherFormat.toFilePath(preferredFilePath);
+                if (otherFilePath.equals(filePath) || !Files.exists(otherFilePath)) {
+                    continue;
+                }
+                try {
+                    FlashcardListConverter.convert(
+                        FlashcardListConverter.createStorage(otherFilePath, null, false), flashcardStorage);
+                    break;
+                } catch (DataConversionException | IOException e) {
+                    logger.warning("Failed to convert " + otherFilePath + ": " + StringUtil.getDetails(e));
+                }
+            }
+        }
+        return config.isJournaledStorage()
+            ? new JournaledFlashcardListStorage(flashcardStorage, definitionSegment)
+            : flashcardStorage;
     }
 
     private void initLogging(Config config) {
@@ -180,10 +248,19 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save User preferences " + StringUtil.getDetails(e));
         }
+        // Let saves still being written in the background finish, so that none overwrites the final one
+        logic.flushSaves();
         try {
             storage.saveFlashcardList(model.getFlashcardList());
         } catch (IOException ioe) {
             logger.severe("Fail to save flashcard list.");
         }
+        if (definitionSegment != null) {
+            try {
+                definitionSegment.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close definition segment " + StringUtil.getDetails(e));
+            }
+        }
     }
 }
@@ -18,6 +18,12 @@ public class Config {
     // TODO: Go and create this json file to represent the default user preferences.
     private Path userPrefsFilePath = Paths.get("preferences.json");
 
+    // Whether data files are written without line breaks and indentation
+    private boolean compactJson = false;
+
+    // Whether changes to the flashcard list are appended to a journal instead of rewriting the whole file
+    private boolean journaledStorage = false;
+
     public Level getLogLevel() {
         return logLevel;
     }
@@ -34,6 +40,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isCompactJson() {
+        return compactJson;
+    }
+
+    public void setCompactJson(boolean compactJson) {
+        this.compactJson = compactJson;
+    }
+
+    public boolean isJournaledStorage() {
+        return journaledStorage;
+    }
+
+    public void setJournaledStorage(boolean journaledStorage) {
+        this.journaledStorage = journaledStorage;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -43,12 +65,13 @@ public class Config {
             return false;
         }
         Config o = (Config) other;
-        return Objects.equals(logLevel, o.logLevel) && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+        return Objects.equals(logLevel, o.logLevel) && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && compactJson == o.compactJson && journaledStorage == o.journaledStorage;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, compactJson, journaledStorage);
     }
 
     @Override
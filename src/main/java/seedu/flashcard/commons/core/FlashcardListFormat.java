@@ -0,0 +1,50 @@
+package seedu.flashcard.commons.core;
+
+import java.nio.file.Path;
+
+/**
+ * The formats the flashcard list can be saved in, each with the extension of the files it is saved to.
+ */
+public enum FlashcardListFormat {
+    JSON(".json"),
+    BINARY(".deck"),
+    MAPPED(".fmap");
+
+    private final String fileExtension;
+
+    FlashcardListFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format of the file at {@code filePath}, as given by its extension.
+     * Files without the extension of another format are taken to be Json.
+     */
+    public static FlashcardListFormat fromFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        for (FlashcardListFormat format : values()) {
+            if (fileName.endsWith(format.fileExtension)) {
+                return format;
+            }
+        }
+        return JSON;
+    }
+
+    /**
+     * Returns {@code filePath} if it is a file in this format, or else {@code filePath} with its extension,
+     * if any, replaced by the extension of this format.
+     */
+    public Path toFilePath(Path filePath) {
+        if (fromFilePath(filePath) == this) {
+            return filePath;
+        }
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + fileExtension);
+    }
+}
@@ -1,17 +1,32 @@
 package seedu.flashcard.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.flashcard.commons.core.LogsCenter;
+import seedu.flashcard.commons.exceptions.DataConversionException;
 
 /**
  * Saves the common utils for all file related issues.
  */
 public class FileUtil {
 
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,6 +87,75 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns the path of the backup that {@link #writeToFileAtomically} keeps of the previous content of {@code file}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes the content given by {@code writer} to a file, so that a crash while writing leaves the file as it was.
+     * The content is written to a temporary file next to it and forced to the disk. The previous file, if any,
+     * is then renamed to its backup, and the temporary file renamed to take its place.
+     * Will create the file and its parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileOutputStream out = new FileOutputStream(tempFile.toFile())) {
+                writer.writeTo(out);
+                out.getFD().sync();
+            }
+            if (Files.exists(file)) {
+                Files.move(file, getBackupPath(file), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            }
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the data read by {@code reader} from the given file, or {@code Optional.empty()} if it is not found.
+     * If the file is missing or cannot be read, the previous version of it kept as its backup
+     * by {@link #writeToFileAtomically} is read instead.
+     * @param file cannot be null.
+     * @throws DataConversionException if neither the file nor its backup can be read.
+     */
+    public static <T> Optional<T> readWithBackup(Path file, DataReader<T> reader) throws DataConversionException {
+        requireNonNull(file);
+        requireNonNull(reader);
+
+        Path backup = getBackupPath(file);
+        if (!Files.exists(file)) {
+            if (!Files.exists(backup)) {
+                logger.info("File " + file + " not found");
+                return Optional.empty();
+            }
+            logger.warning("File " + file + " not found, reading its backup " + backup);
+            return Optional.of(reader.read(backup));
+        }
+
+        try {
+            return Optional.of(reader.read(file));
+        } catch (DataConversionException e) {
+            if (!Files.exists(backup)) {
+                throw e;
+            }
+            logger.warning("File " + file + " cannot be read, reading its backup " + backup);
+            try {
+                return Optional.of(reader.read(backup));
+            } catch (DataConversionException backupException) {
+                logger.warning("Backup " + backup + " cannot be read either: " + backupException.getMessage());
+                throw e;
+            }
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -79,4 +163,20 @@ public class FileUtil {
     public static void writeToFile(Path file, String content) throws IOException {
         Files.write(file, content.getBytes(CHARSET));
     }
+
+    /**
+     * Reads the data saved in a file.
+     */
+    @FunctionalInterface
+    public interface DataReader<T> {
+        T read(Path file) throws DataConversionException;
+    }
+
+    /**
+     * Writes the content of a file to a stream, leaving the stream open.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 }
@@ -2,16 +2,19 @@ package seedu.flashcard.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 
 /**
  * Manages a list of {@link InvalidationListener}.
+ * Listeners are notified far more often than they are added or removed,
+ * so the list is copied on modification rather than on every notification.
  */
 public class InvalidationListenerManager {
-    private final ArrayList<InvalidationListener> listeners = new ArrayList<>();
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
 
     /**
      * Calls {@link InvalidationListener#invalidated(Observable)} on all added listeners.
@@ -21,11 +24,9 @@ public class InvalidationListenerManager {
      * @param observable The {@code Observable} that became invalid.
      */
     public void callListeners(Observable observable) {
-        // Make a copy of listeners such that any modifications to the listeners list during
-        // the invocation of this method will only take effect on the next invocation of this method.
-        ArrayList<InvalidationListener> listenersCopy = new ArrayList<>(listeners);
-
-        for (InvalidationListener listener : listenersCopy) {
+        // Iterating a copy-on-write list works on a snapshot, such that any modifications to the listeners list
+        // during the invocation of this method will only take effect on the next invocation of this method.
+        for (InvalidationListener listener : listeners) {
             listener.invalidated(observable);
         }
     }
@@ -2,19 +2,32 @@ package seedu.flashcard.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -30,6 +43,14 @@ public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    // Saved files end with a line holding the checksum of the bytes before it, which Json parsers stop short of
+    private static final String CHECKSUM_PREFIX = "\n// crc32 ";
+    private static final String CHECKSUM_SUFFIX = ": delete this line after editing the file by hand\n";
+    private static final int CHECKSUM_DIGITS = 8;
+    private static final int CHECKSUM_LENGTH = CHECKSUM_PREFIX.length() + CHECKSUM_DIGITS + CHECKSUM_SUFFIX.length();
+
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
@@ -39,6 +60,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Writes values into a generator without flushing it after each one
+    private static ObjectWriter elementWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -51,6 +76,9 @@ public class JsonUtil {
     /**
      * Returns the Json object from the given file or {@code Optional.empty()} object if the file is not found.
      * If any values are missing from the file, default values will be used, as long as the file is a valid json file.
+     * The file is read as described in {@link FileUtil#readWithBackup}. Files read this way, such as the config,
+     * are meant to be edited by hand, so a file that ends with a checksum it does not match is read as it is,
+     * with a warning, rather than replaced by its backup.
      * @param filePath cannot be null.
      * @param classOfObjectToDeserialize Json file has to correspond to the structure in the class given here.
      * @throws DataConversionException if the file format is not as expected.
@@ -59,25 +87,119 @@ public class JsonUtil {
             Path filePath, Class<T> classOfObjectToDeserialize) throws DataConversionException {
         requireNonNull(filePath);
 
-        if (!Files.exists(filePath)) {
-            logger.info("Json file " + filePath + " not found");
-            return Optional.empty();
-        }
+        return FileUtil.readWithBackup(filePath, path -> {
+            try {
+                if (!hasMatchingChecksum(path)) {
+                    logger.warning("Json file " + path + " does not match its checksum, as it was edited by hand,"
+                            + " reading it as it is");
+                }
+                return deserializeObjectFromJsonFile(path, classOfObjectToDeserialize);
+            } catch (IOException e) {
+                logger.warning("Error reading from jsonFile file " + path + ": " + e);
+                throw new DataConversionException(e);
+            }
+        });
+    }
 
-        T jsonFile;
+    /**
+     * Returns the data read by {@code reader} from the given file, or {@code Optional.empty()} if it is not found.
+     * The file is read as described in {@link FileUtil#readWithBackup}, and is also taken to be damaged
+     * if it ends with a checksum that does not match its contents.
+     * Files that do not end with a checksum, such as those written by hand, are read as they are.
+     * @param filePath cannot be null.
+     * @throws DataConversionException if neither the file nor its backup can be read.
+     */
+    public static <T> Optional<T> readWithBackup(Path filePath, FileUtil.DataReader<T> reader)
+            throws DataConversionException {
+        requireNonNull(reader);
+        return FileUtil.readWithBackup(filePath, path -> readChecked(path, reader));
+    }
 
+    /**
+     * Reads the given file with {@code reader}, after checking it against the checksum it ends with, if any.
+     */
+    private static <T> T readChecked(Path filePath, FileUtil.DataReader<T> reader) throws DataConversionException {
         try {
-            jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize);
+            if (!hasMatchingChecksum(filePath)) {
+                throw new IOException("Json file " + filePath + " does not match its checksum");
+            }
         } catch (IOException e) {
-            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            logger.warning(e.getMessage());
             throw new DataConversionException(e);
         }
+        return reader.read(filePath);
+    }
+
+    /**
+     * Returns false if the given file ends with a checksum that does not match the contents before it.
+     */
+    static boolean hasMatchingChecksum(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath)) {
+            long contentLength = channel.size() - CHECKSUM_LENGTH;
+            if (contentLength < 0) {
+                return true;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+            readFully(channel, buffer, contentLength, CHECKSUM_LENGTH);
+            String trailer = new String(buffer.array(), 0, CHECKSUM_LENGTH, StandardCharsets.UTF_8);
+            if (!trailer.startsWith(CHECKSUM_PREFIX) || !trailer.endsWith(CHECKSUM_SUFFIX)) {
+                return true;
+            }
+            long expected;
+            try {
+                expected = Long.parseLong(trailer.substring(CHECKSUM_PREFIX.length(),
+                        CHECKSUM_PREFIX.length() + CHECKSUM_DIGITS), 16);
+            } catch (NumberFormatException e) {
+                return false;
+            }
+            CRC32 crc = new CRC32();
+            for (long position = 0; position < contentLength; position += buffer.limit()) {
+                readFully(channel, buffer, position, (int) Math.min(WRITE_BUFFER_SIZE, contentLength - position));
+                crc.update(buffer);
+                buffer.flip();
+            }
+            return crc.getValue() == expected;
+        }
+    }
+
+    /**
+     * Reads {@code length} bytes of the file starting at {@code position} into the start of {@code buffer},
+     * leaving the buffer ready to be read from.
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position, int length)
+            throws IOException {
+        buffer.clear().limit(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+        buffer.flip();
+    }
 
-        return Optional.of(jsonFile);
+    /**
+     * Opens the file at {@code filePath}, which must hold a Json object, for reading the elements of the array
+     * in its field {@code arrayName} one at a time, without reading the whole file into memory.
+     * If the object has no such field, the array is taken to be empty.
+     * @param elementClass each element of the array has to correspond to the structure in the class given here.
+     * @throws IOException if the file cannot be opened, or does not start with a Json object.
+     */
+    public static <T> JsonArrayReader<T> openJsonArray(Path filePath, String arrayName, Class<T> elementClass)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayName);
+        JsonParser parser = objectMapper.getFactory().createParser(filePath.toFile());
+        try {
+            return new JsonArrayReader<>(parser, arrayName, elementClass);
+        } catch (IOException e) {
+            parser.close();
+            throw e;
+        }
     }
 
     /**
-     * Saves the Json object to the specified file.
+     * Saves the Json object to the specified file. No checksum is written, as such files may be edited by hand.
+     * The file is replaced only once the new one has been written in full, and the previous one is kept as its backup.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
@@ -87,9 +209,56 @@ public class JsonUtil {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        byte[] json = toJsonString(jsonFile).getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFileAtomically(filePath, out -> out.write(json));
+    }
+
+
+    /**
+     * Saves a Json object with one field {@code arrayName}, an array of the given elements, to the specified file.
+     * Each element is written to the file as soon as it is converted, so the Json is never held in memory as a whole.
+     * The file is written as described in {@link #saveJsonFile}, followed by a line holding its checksum,
+     * which {@link #readWithBackup} checks.
+     * @param filePath cannot be null
+     * @param isCompact true if the Json should be written without line breaks and indentation.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void saveJsonArray(Path filePath, String arrayName, Iterable<?> elements, boolean isCompact)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayName);
+        requireNonNull(elements);
+
+        FileUtil.writeToFileAtomically(filePath, out -> writeWithChecksum(out, checked -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(checked, JsonEncoding.UTF8)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                if (!isCompact) {
+                    generator.useDefaultPrettyPrinter();
+                }
+                generator.writeStartObject();
+                generator.writeFieldName(arrayName);
+                generator.writeStartArray();
+                for (Object element : elements) {
+                    elementWriter.writeValue(generator, element);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }));
     }
 
+    /**
+     * Writes the content given by {@code writer}, which leaves the stream open, to {@code out} through a buffer,
+     * followed by a line holding the checksum of the content.
+     */
+    private static void writeWithChecksum(OutputStream out, FileUtil.ContentWriter writer) throws IOException {
+        CRC32 crc = new CRC32();
+        OutputStream buffered = new BufferedOutputStream(out, WRITE_BUFFER_SIZE);
+        writer.writeTo(new CheckedOutputStream(buffered, crc));
+        String checksum = String.format("%0" + CHECKSUM_DIGITS + "x", crc.getValue());
+        buffered.write((CHECKSUM_PREFIX + checksum + CHECKSUM_SUFFIX).getBytes(StandardCharsets.UTF_8));
+        buffered.flush();
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +279,82 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Reads the elements of an array in a Json object one at a time, as opened by {@link #openJsonArray}.
+     */
+    public static class JsonArrayReader<T> implements Closeable {
+
+        private final JsonParser parser;
+        private final Class<T> elementClass;
+        private boolean hasMoreElements;
+
+        private JsonArrayReader(JsonParser parser, String arrayName, Class<T> elementClass) throws IOException {
+            this.parser = parser;
+            this.elementClass = elementClass;
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a Json object");
+            }
+            hasMoreElements = skipFieldsUntil(arrayName);
+            if (hasMoreElements && parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array in field " + arrayName);
+            }
+        }
+
+        /**
+         * Returns the next element of the array, or null if there are no more.
+         * Once the array ends, the rest of the object is read to make sure it is valid Json.
+         * @throws IOException if the file cannot be read, or is not in the expected format.
+         */
+        public T next() throws IOException {
+            if (!hasMoreElements) {
+                return null;
+            }
+            if (parser.nextToken() == JsonToken.END_ARRAY) {
+                hasMoreElements = false;
+                skipFieldsUntil(null);
+                return null;
+            }
+            T element = objectMapper.readValue(parser, elementClass);
+            if (element == null) {
+                throw new JsonParseException(parser, "Unexpected null element");
+            }
+            return element;
+        }
+
+        /**
+         * Skips the fields of the object until the one named {@code fieldName}, returning true if it was found,
+         * or until the end of the object, returning false.
+         */
+        private boolean skipFieldsUntil(String fieldName) throws IOException {
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
+                if (token != JsonToken.FIELD_NAME) {
+                    throw new JsonParseException(parser, "Expected a field name or the end of the object");
+                }
+                if (parser.getCurrentName().equals(fieldName)) {
+                    return true;
+                }
+                parser.nextToken();
+                parser.skipChildren();
+            }
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -6,12 +6,18 @@ import static seedu.flashcard.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 /**
  * Contains all util functions for String related issues.
  */
 public class StringUtil {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -29,15 +35,130 @@ public class StringUtil {
 
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Question parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Question parameter should be a single word");
+        checkArgument(WHITESPACE.split(preppedWord).length == 1, "Question parameter should be a single word");
 
         String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        String[] wordsInPreppedSentence = WHITESPACE.split(preppedSentence);
 
         return Arrays.stream(wordsInPreppedSentence)
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the distinct words of {@code sentence}, each passed through {@link #foldCase(String)}.
+     * {@code containsWordIgnoreCase(sentence, word)} is true exactly when the result contains
+     * {@code foldCase(word.trim())}.
+     * @param sentence cannot be null
+     */
+    public static Set<String> getFoldedWords(String sentence) {
+        Set<String> foldedWords = new HashSet<>();
+        forEachFoldedWord(sentence, foldedWords::add);
+        return foldedWords;
+    }
+
+    /**
+     * Passes each word of {@code sentence}, as split by {@link #containsWordIgnoreCase(String, String)},
+     * through {@link #foldCase(String)} and on to {@code action}, without building intermediate collections.
+     * Repeated words are passed on each time they appear.
+     * @param sentence cannot be null
+     */
+    public static void forEachFoldedWord(String sentence, Consumer<String> action) {
+        requireNonNull(sentence);
+        requireNonNull(action);
+        int wordStart = -1;
+        for (int i = 0; i <= sentence.length(); i++) {
+            boolean isWordEnd = i == sentence.length() || isWhitespace(sentence.charAt(i));
+            if (isWordEnd && wordStart >= 0) {
+                action.accept(foldCase(sentence.substring(wordStart, i)));
+                wordStart = -1;
+            } else if (!isWordEnd && wordStart < 0) {
+                wordStart = i;
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code c} is matched by the regular expression {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns {@code word} in a form that is the same for all words that are equal ignoring case,
+     * in the sense of {@link String#equalsIgnoreCase(String)}.
+     * @param word cannot be null
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
+        int firstUnfolded = 0;
+        while (firstUnfolded < word.length() && foldCase(word.charAt(firstUnfolded)) == word.charAt(firstUnfolded)) {
+            firstUnfolded++;
+        }
+        if (firstUnfolded == word.length()) {
+            return word;
+        }
+        StringBuilder folded = new StringBuilder(word.length()).append(word, 0, firstUnfolded);
+        for (int i = firstUnfolded; i < word.length(); i++) {
+            folded.append(foldCase(word.charAt(i)));
+        }
+        return folded.toString();
+    }
+
+    private static char foldCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Returns true if {@code first} can be turned into {@code second} by at most {@code maxDistance}
+     * insertions, deletions or substitutions of a character.
+     * Only the diagonal band of width {@code 2 * maxDistance + 1} of the edit distance table is filled in,
+     * and the comparison stops as soon as every entry of a row exceeds {@code maxDistance}.
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param maxDistance cannot be negative
+     */
+    public static boolean isWithinEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Edit distance cannot be negative");
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return false;
+        }
+        int outOfReach = maxDistance + 1;
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = Math.min(j, outOfReach);
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            int bandStart = Math.max(1, i - maxDistance);
+            int bandEnd = Math.min(second.length(), i + maxDistance);
+            currentRow[0] = Math.min(i, outOfReach);
+            if (bandStart > 1) {
+                currentRow[bandStart - 1] = outOfReach;
+            }
+            int rowMinimum = currentRow[0];
+            for (int j = bandStart; j <= bandEnd; j++) {
+                int substitution = previousRow[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                int deletion = previousRow[j] + 1;
+                int insertion = currentRow[j - 1] + 1;
+                currentRow[j] = Math.min(outOfReach, Math.min(substitution, Math.min(deletion, insertion)));
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (bandEnd < second.length()) {
+                currentRow[bandEnd + 1] = outOfReach;
+            }
+            if (rowMinimum > maxDistance) {
+                return false;
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()] <= maxDistance;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,6 +1,7 @@
 package seedu.flashcard.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.beans.property.IntegerProperty;
 import javafx.collections.ObservableList;
@@ -28,6 +29,18 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler told, with a message for the user, of each save of the flashcard list that fails.
+     * Saves are written in the background after the commands that modify the list return,
+     * so the handler is called on the thread the saves are written on.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Waits until the flashcard list has been saved after every command executed so far.
+     */
+    void flushSaves();
+
     /**
      * Get the flashcard list.
      * @see seedu.flashcard.model.Model#getFlashcardList()
@@ -1,7 +1,7 @@
 package seedu.flashcard.logic;
 
-import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.property.IntegerProperty;
@@ -30,6 +30,7 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final CommandHistory history;
     private final FlashcardListParser flashcardListParser;
+    private final WriteBehindSaver saver;
     private boolean flashcardListModified;
 
     public LogicManager(Model model, Storage storage) {
@@ -37,6 +38,7 @@ public class LogicManager implements Logic {
         this.storage = storage;
         history = new CommandHistory();
         flashcardListParser = new FlashcardListParser();
+        saver = new WriteBehindSaver(storage, model.getFlashcardList());
 
         // Set flashcardListModified to true whenever the models' flashcard list is modified.
         model.getFlashcardList().addListener(observable -> flashcardListModified = true);
@@ -57,15 +59,21 @@ public class LogicManager implements Logic {
 
         if (flashcardListModified) {
             logger.info("Flashcard List modified, saving to file.");
-            try {
-                storage.saveFlashcardList(model.getFlashcardList());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
+            saver.save();
         }
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        saver.setFailureHandler(ioe -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    @Override
+    public void flushSaves() {
+        saver.flush();
+    }
+
     @Override
     public ReadOnlyFlashcardList getFlashcardList() {
         return model.getFlashcardList();
@@ -0,0 +1,204 @@
+package seedu.flashcard.logic;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.flashcard.commons.core.LogsCenter;
+import seedu.flashcard.model.ReadOnlyFlashcardList;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.storage.Storage;
+
+/**
+ * Saves the flashcard list on a thread of its own, so that commands do not wait for the file to be written.
+ * Each save works from a snapshot of the list taken when it was asked for. Saves asked for while another
+ * is being written are coalesced, so only the latest snapshot among them is written.
+ * Reviews change flashcards within the list, so the saver follows the list to tell each snapshot the positions
+ * of the flashcards reviewed since the last snapshot that was written. Keeping those positions up to date costs
+ * time proportional to the number of such flashcards on each change to the list, not to the size of the list.
+ */
+class WriteBehindSaver {
+
+    private final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+    private final Storage storage;
+    private final ReadOnlyFlashcardList flashcardList;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "flashcard-list-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // The latest snapshot not yet taken up by a save
+    private final AtomicReference<Snapshot> pendingSnapshot = new AtomicReference<>();
+    private volatile Consumer<IOException> failureHandler = e -> { };
+    // The flashcards reviewed that may not have been written yet, only used on the thread that modifies the list
+    private final Map<Flashcard, ReviewedFlashcard> reviewedFlashcards = new IdentityHashMap<>();
+    private long snapshotsTaken = 0;
+    // The number of the latest snapshot that a save has taken up
+    private volatile long snapshotsWritten = 0;
+
+    /**
+     * Creates a saver of {@code flashcardList} to {@code storage}.
+     */
+    WriteBehindSaver(Storage storage, ReadOnlyFlashcardList flashcardList) {
+        this.storage = storage;
+        this.flashcardList = flashcardList;
+        flashcardList.getFlashcardList().addListener(this::followChange);
+    }
+
+    /**
+     * Sets the handler told of each save that fails. It is called on the thread the saves are written on.
+     */
+    void setFailureHandler(Consumer<IOException> failureHandler) {
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Asks for the flashcards now in the list to be saved.
+     * A flashcard reviewed since the last snapshot that was written is reported by every snapshot after it,
+     * as a snapshot may be coalesced with a later one before it is written.
+     */
+    void save() {
+        snapshotsTaken++;
+        long written = snapshotsWritten;
+        reviewedFlashcards.values().removeIf(reviewed -> reviewed.snapshotNumber <= written);
+        int[] reviewedPositions = reviewedFlashcards.values().stream()
+            .mapToInt(reviewed -> reviewed.position)
+            .filter(position -> position >= 0)
+            .toArray();
+        Snapshot snapshot = new Snapshot(flashcardList.getFlashcardList(), reviewedPositions, snapshotsTaken);
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            executor.execute(this::saveLatestSnapshot);
+        }
+    }
+
+    /**
+     * Keeps the positions of the flashcards reviewed up to date with {@code change}, and takes in those it reviews.
+     * A reviewed flashcard taken out of the list has no position, until it is put back.
+     */
+    private void followChange(ListChangeListener.Change<? extends Flashcard> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                for (ReviewedFlashcard reviewed : reviewedFlashcards.values()) {
+                    if (reviewed.position >= from && reviewed.position < change.getTo()) {
+                        reviewed.position = change.getPermutation(reviewed.position);
+                    }
+                }
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < change.getTo(); i++) {
+                    ReviewedFlashcard reviewed = reviewedFlashcards.computeIfAbsent(change.getList().get(i),
+                        unused -> new ReviewedFlashcard());
+                    reviewed.position = i;
+                    reviewed.snapshotNumber = snapshotsTaken + 1;
+                }
+            } else {
+                int removedEnd = from + change.getRemovedSize();
+                int shift = change.getAddedSize() - change.getRemovedSize();
+                for (ReviewedFlashcard reviewed : reviewedFlashcards.values()) {
+                    if (reviewed.position >= removedEnd) {
+                        reviewed.position += shift;
+                    } else if (reviewed.position >= from) {
+                        reviewed.position = -1;
+                    }
+                }
+                for (int i = from; i < change.getTo(); i++) {
+                    ReviewedFlashcard reviewed = reviewedFlashcards.get(change.getList().get(i));
+                    if (reviewed != null) {
+                        reviewed.position = i;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits until every save asked for so far has been written, or has failed.
+     */
+    void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Writes the latest snapshot asked to be saved, telling the failure handler if it cannot be written.
+     * Unchecked exceptions are reported too, as nothing else would see them on this thread.
+     */
+    private void saveLatestSnapshot() {
+        Snapshot snapshot = pendingSnapshot.getAndSet(null);
+        snapshotsWritten = snapshot.number;
+        try {
+            storage.saveFlashcardList(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save flashcard list: " + e);
+            failureHandler.accept(e);
+        } catch (UncheckedIOException e) {
+            logger.warning("Failed to save flashcard list: " + e);
+            failureHandler.accept(e.getCause());
+        } catch (RuntimeException e) {
+            logger.severe("Failed to save flashcard list: " + e);
+            failureHandler.accept(new IOException(e));
+        }
+    }
+
+    /**
+     * A flashcard reviewed since the last snapshot that was written, with its position in the list,
+     * or -1 while it is not in the list, and the number of the first snapshot taken since it was last reviewed.
+     */
+    private static class ReviewedFlashcard {
+        private int position;
+        private long snapshotNumber;
+    }
+
+    /**
+     * The flashcards in a list at the time the snapshot was taken.
+     * Flashcards are not copied, as only their scores and schedules change once they are in a list,
+     * and those are immutable values the flashcard replaces, which can be read safely from any thread.
+     */
+    private static class Snapshot implements ReadOnlyFlashcardList {
+        private final ObservableList<Flashcard> flashcards;
+        private final int[] reviewedPositions;
+        private final long number;
+
+        Snapshot(ObservableList<Flashcard> flashcards, int[] reviewedPositions, long number) {
+            this.flashcards = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(flashcards));
+            this.reviewedPositions = reviewedPositions;
+            this.number = number;
+        }
+
+        @Override
+        public ObservableList<Flashcard> getFlashcardList() {
+            return flashcards;
+        }
+
+        @Override
+        public int[] getReviewedPositions() {
+            return reviewedPositions.clone();
+        }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            // A snapshot never changes
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            // A snapshot never changes
+        }
+    }
+}
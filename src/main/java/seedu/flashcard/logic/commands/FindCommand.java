@@ -16,8 +16,9 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Find all flashcards whose words contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "End a keyword with * to match words starting with it, or with ~ to allow a few typos.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " compact complete search";
+            + "Example: " + COMMAND_WORD + " compact complet* serch~";
 
     private final FlashcardContainsKeywordsPredicate predicate;
 
@@ -28,7 +29,7 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredFlashcardList(predicate);
+        model.updateFilteredFlashcardList(model.getContainsAnyKeywordPredicate(predicate.getKeywords()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_FLASHCARD_LISTED_OVERVIEW, model.getFilteredFlashcardList().size()));
     }
@@ -10,6 +10,7 @@ import seedu.flashcard.model.Quiz;
 import seedu.flashcard.model.flashcard.Answer;
 import seedu.flashcard.model.flashcard.Flashcard;
 import seedu.flashcard.model.flashcard.McqFlashcard;
+import seedu.flashcard.model.flashcard.Schedule;
 import seedu.flashcard.model.flashcard.exceptions.CardNotFoundException;
 
 /**
@@ -47,6 +48,7 @@ public class FlipCommand extends Command {
         try {
             Answer updatedAnswer = updateAnswer(quizCard);
             boolean isCorrect = quizCard.checkAnswer(updatedAnswer);
+            model.reviewFlashcard(quizCard, isCorrect ? Schedule.QUALITY_CORRECT : Schedule.QUALITY_WRONG);
             model.getQuiz().discardFirstCard();
             String resultString = buildResultString(updatedAnswer, isCorrect, quizCard);
             String flashcardString = buildFlashcardString(model.getQuiz());
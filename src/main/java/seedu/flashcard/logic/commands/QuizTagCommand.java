@@ -2,7 +2,6 @@ package seedu.flashcard.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -48,11 +47,7 @@ public class QuizTagCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
         model.updateFilteredFlashcardList(model.getHasTagPredicate(target));
-        List<Flashcard> taggedList = new ArrayList<>();
-        List<Flashcard> filteredList = model.getFilteredFlashcardList();
-        for (int i = 0; i < filteredList.size(); i++) {
-            taggedList.add(filteredList.get(i));
-        }
+        List<Flashcard> taggedList = model.getFilteredFlashcardList();
         if (taggedList.isEmpty()) {
             FlashcardListParser.setQuizMode(false);
             throw new CommandException(TAG_INVALID);
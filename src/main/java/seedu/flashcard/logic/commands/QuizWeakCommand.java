@@ -0,0 +1,72 @@
+package seedu.flashcard.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.flashcard.model.Model.PREDICATE_SHOW_ALL_FLASHCARDS;
+
+import java.util.Set;
+
+import seedu.flashcard.logic.CommandHistory;
+import seedu.flashcard.logic.commands.exceptions.CommandException;
+import seedu.flashcard.logic.parser.FlashcardListParser;
+import seedu.flashcard.model.Model;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.tag.Tag;
+
+/**
+ * Command to start a quiz that picks the flashcards most often answered wrongly more often.
+ */
+public class QuizWeakCommand extends Command {
+
+    public static final String COMMAND_WORD = "quizweak";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Starts a series of quizzes on flashcards picked at random, "
+            + "favouring those most often answered wrongly or skipped.\n"
+            + "Flashcards are picked from those with the given tags, or from all flashcards if no tag is given, "
+            + "and as many are quizzed as there are to pick from. The same flashcard may come up more than once.\n"
+            + "Quiz mode will persist until all flashcards are answered or the user inputs 'end'\n"
+            + "Parameters: [t/TAG]... [s/TIME_LIMIT]\n"
+            + "Example: " + COMMAND_WORD + " t/geography";
+
+    public static final String MESSAGE_SUCCESS = "Quiz mode has started.";
+    public static final String MESSAGE_NO_FLASHCARDS = "There are no quizable flashcards.";
+    private final Set<Tag> target;
+    private final Integer duration;
+
+    public QuizWeakCommand(Set<Tag> target, Integer duration) {
+        requireNonNull(target);
+        this.target = target;
+        this.duration = duration;
+    }
+
+    /**
+     * Starts a quiz on flashcards drawn by their error rates, showing the first one without its answer.
+     * @param model list of flashcards
+     * @return the execution result containing the first flashcard without the answer.
+     * @throws CommandException if there are no flashcards to draw from.
+     */
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (target.isEmpty()) {
+            model.updateFilteredFlashcardList(PREDICATE_SHOW_ALL_FLASHCARDS);
+        } else {
+            model.updateFilteredFlashcardList(model.getHasTagPredicate(target));
+        }
+        if (model.getFilteredFlashcardList().isEmpty()) {
+            FlashcardListParser.setQuizMode(false);
+            throw new CommandException(MESSAGE_NO_FLASHCARDS);
+        }
+        model.setQuizDuration(duration);
+        model.setQuiz(model.getWeakFlashcardSample());
+        Flashcard firstCard = model.getQuiz().quizCard();
+        return new CommandResult(MESSAGE_SUCCESS, true, firstCard.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof QuizWeakCommand
+                && target.equals(((QuizWeakCommand) other).target));
+    }
+}
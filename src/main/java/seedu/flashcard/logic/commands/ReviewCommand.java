@@ -0,0 +1,64 @@
+package seedu.flashcard.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.flashcard.logic.CommandHistory;
+import seedu.flashcard.logic.commands.exceptions.CommandException;
+import seedu.flashcard.logic.parser.FlashcardListParser;
+import seedu.flashcard.model.Model;
+import seedu.flashcard.model.flashcard.Flashcard;
+
+/**
+ * Command to start a quiz on the flashcards that are due for review.
+ */
+public class ReviewCommand extends Command {
+
+    public static final String COMMAND_WORD = "review";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Starts a series of quizzes for all the flashcards that are due for review, "
+            + "the longest overdue first.\n"
+            + "A flashcard answered correctly is due again after a number of days that grows each time, "
+            + "and a flashcard answered wrongly or skipped is due again the next day.\n"
+            + "Quiz mode will persist until all flashcards are answered or the user inputs 'end'\n"
+            + "Parameters: [s/TIME_LIMIT]\n"
+            + "Example: " + COMMAND_WORD + " s/30";
+
+    public static final String MESSAGE_SUCCESS = "Review has started. %1$d flashcards are due.";
+    public static final String MESSAGE_NO_DUE_FLASHCARDS = "There are no flashcards due for review.";
+    private final Integer duration;
+
+    public ReviewCommand(Integer duration) {
+        this.duration = duration;
+    }
+
+    /**
+     * Starts a quiz on the due flashcards, showing the first one without its answer.
+     * @param model list of flashcards
+     * @return the execution result containing the first due flashcard without the answer.
+     * @throws CommandException if no flashcards are due.
+     */
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        List<Flashcard> dueFlashcards = model.getDueFlashcards();
+        if (dueFlashcards.isEmpty()) {
+            FlashcardListParser.setQuizMode(false);
+            throw new CommandException(MESSAGE_NO_DUE_FLASHCARDS);
+        }
+        model.setQuizDuration(duration);
+        model.setQuiz(dueFlashcards);
+        Flashcard firstCard = model.getQuiz().quizCard();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, dueFlashcards.size()), true, firstCard.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof ReviewCommand
+                && Objects.equals(duration, ((ReviewCommand) other).duration));
+    }
+}
@@ -8,6 +8,7 @@ import seedu.flashcard.logic.parser.FlashcardListParser;
 import seedu.flashcard.model.Model;
 import seedu.flashcard.model.Quiz;
 import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.Schedule;
 
 
 /**
@@ -36,6 +37,7 @@ public class SkipCommand extends Command {
             throw new CommandException(MESSAGE_NULL_QUIZ_FLASHCARD);
         }
         quizCard.skipAnswer();
+        model.reviewFlashcard(quizCard, Schedule.QUALITY_SKIPPED);
         model.getQuiz().discardFirstCard();
         String flashcardString = buildFlashcardString(model.getQuiz());
 
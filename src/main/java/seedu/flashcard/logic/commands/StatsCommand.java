@@ -45,7 +45,7 @@ public class StatsCommand extends Command {
         if (model.getFilteredFlashcardList().size() == 0) {
             return new CommandResult(MESSAGE_FAIL);
         }
-        return new CommandResult(model.generateStatistics(), false, false, true);
+        return new CommandResult(model.generateStatistics(target), false, false, true);
 
     }
 
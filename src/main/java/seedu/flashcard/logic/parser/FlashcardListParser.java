@@ -22,7 +22,9 @@ import seedu.flashcard.logic.commands.ListCommand;
 import seedu.flashcard.logic.commands.ListTagCommand;
 import seedu.flashcard.logic.commands.QuizCommand;
 import seedu.flashcard.logic.commands.QuizTagCommand;
+import seedu.flashcard.logic.commands.QuizWeakCommand;
 import seedu.flashcard.logic.commands.RedoCommand;
+import seedu.flashcard.logic.commands.ReviewCommand;
 import seedu.flashcard.logic.commands.SkipCommand;
 import seedu.flashcard.logic.commands.StatsCommand;
 import seedu.flashcard.logic.commands.UndoCommand;
@@ -109,6 +111,16 @@ public class FlashcardListParser {
             quizMode = true;
             return nextQuizTagCommand;
 
+        case QuizWeakCommand.COMMAND_WORD:
+            Command nextQuizWeakCommand = (new QuizWeakCommandParser()).parse(arguments);
+            quizMode = true;
+            return nextQuizWeakCommand;
+
+        case ReviewCommand.COMMAND_WORD:
+            Command nextReviewCommand = (new ReviewCommandParser()).parse(arguments);
+            quizMode = true;
+            return nextReviewCommand;
+
         case FlipCommand.COMMAND_WORD:
             throw new ParseException(FlipCommand.MESSAGE_NULL_QUIZ_FLASHCARD);
 
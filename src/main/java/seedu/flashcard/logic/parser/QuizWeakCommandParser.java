@@ -0,0 +1,42 @@
+package seedu.flashcard.logic.parser;
+
+import static seedu.flashcard.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.flashcard.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.flashcard.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
+
+import seedu.flashcard.logic.commands.QuizWeakCommand;
+import seedu.flashcard.logic.parser.exceptions.ParseException;
+import seedu.flashcard.model.tag.Tag;
+
+/**
+ * Parses input arguments to generate a {@code QuizWeakCommand}
+ */
+public class QuizWeakCommandParser implements Parser<QuizWeakCommand> {
+
+    /**
+     * Parses the string of arguments for the tags to pick flashcards from and the time limit.
+     * @param args string containing the optional tags and time limit
+     * @return new {@code QuizWeakCommand}
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public QuizWeakCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_DURATION);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            FlashcardListParser.setQuizMode(false);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT + QuizWeakCommand.MESSAGE_USAGE));
+        }
+
+        Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        Integer duration;
+        if (argMultimap.getValue(PREFIX_DURATION).isPresent()) {
+            duration = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+        } else {
+            duration = null;
+        }
+
+        return new QuizWeakCommand(tagList, duration);
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.flashcard.logic.parser;
+
+import static seedu.flashcard.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.flashcard.logic.parser.CliSyntax.PREFIX_DURATION;
+
+import seedu.flashcard.logic.commands.ReviewCommand;
+import seedu.flashcard.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments to generate a {@code ReviewCommand}
+ */
+public class ReviewCommandParser implements Parser<ReviewCommand> {
+
+    /**
+     * Parses the string of arguments for the time limit of the review.
+     * @param args string containing the optional time limit
+     * @return new {@code ReviewCommand}
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ReviewCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DURATION);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            FlashcardListParser.setQuizMode(false);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT + ReviewCommand.MESSAGE_USAGE));
+        }
+
+        Integer duration;
+        if (argMultimap.getValue(PREFIX_DURATION).isPresent()) {
+            duration = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+        } else {
+            duration = null;
+        }
+
+        return new ReviewCommand(duration);
+    }
+}
@@ -2,13 +2,17 @@ package seedu.flashcard.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import seedu.flashcard.commons.util.InvalidationListenerManager;
 import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.McqFlashcard;
+import seedu.flashcard.model.flashcard.ShortAnswerFlashcard;
 import seedu.flashcard.model.flashcard.UniqueFlashcardList;
 import seedu.flashcard.model.tag.Tag;
 
@@ -20,6 +24,8 @@ public class FlashcardList implements ReadOnlyFlashcardList {
 
     private final UniqueFlashcardList flashcards = new UniqueFlashcardList();
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private int batchDepth = 0;
+    private boolean isModifiedInBatch = false;
 
     public FlashcardList() {}
 
@@ -39,11 +45,26 @@ public class FlashcardList implements ReadOnlyFlashcardList {
 
     /**
      * Resets the existing data of this {@code FlashcardList} with {@code newData}
+     * If {@code newData} is itself a {@code FlashcardList}, its flashcards are already known to be unique
+     * and are copied over without being validated again.
      */
     public void resetData(ReadOnlyFlashcardList newData) {
         requireNonNull(newData);
+        if (newData instanceof FlashcardList) {
+            flashcards.setFlashcards(((FlashcardList) newData).flashcards);
+            indicateModified();
+            return;
+        }
         setFlashcards(newData.getFlashcardList());
-        indicateModified(); // include here?
+    }
+
+    /**
+     * Replaces the flashcards at positions [{@code from}, {@code to}) with {@code replacement}.
+     * Used to move between versions of the flashcard list by touching only the flashcards that differ.
+     */
+    void replaceFlashcards(int from, int to, List<Flashcard> replacement) {
+        flashcards.replaceRange(from, to, replacement);
+        indicateModified();
     }
 
     /**
@@ -55,6 +76,15 @@ public class FlashcardList implements ReadOnlyFlashcardList {
 
     }
 
+    /**
+     * Returns the position in the flashcard list of {@code flashcard}.
+     * Throws CardNotFoundException if {@code flashcard} is not in the list.
+     */
+    public int positionOf(Flashcard flashcard) {
+        requireNonNull(flashcard);
+        return flashcards.positionOf(flashcard);
+    }
+
     /**
      * Adds a flashcard to the flashcard list.
      */
@@ -99,17 +129,81 @@ public class FlashcardList implements ReadOnlyFlashcardList {
     }
 
     /**
-     * Removes the given tag from all flashcards.
+     * Returns the flashcards carrying any of the given tags.
+     */
+    public Set<Flashcard> getFlashcardsWithAnyTag(Set<Tag> tags) {
+        return flashcards.getFlashcardsWithAnyTag(tags);
+    }
+
+    /**
+     * Returns the flashcards whose question, definition or answer contains any of the given keywords.
+     */
+    public Set<Flashcard> getFlashcardsContainingAnyWord(List<String> keywords) {
+        return flashcards.getFlashcardsContainingAnyWord(keywords);
+    }
+
+    /**
+     * Removes the given tag from all flashcards, as one {@code batch}.
+     * Only the flashcards carrying the tag are replaced, by edited copies.
      */
     public void flashcardsRemoveTag(Tag tag) {
-        flashcards.removeTag(tag);
+        requireNonNull(tag);
+        Set<Flashcard> tagged = flashcards.getFlashcardsWithAnyTag(Collections.singleton(tag));
+        batch(list -> {
+            for (Flashcard flashcard : tagged) {
+                Flashcard edited = flashcard.isMcq()
+                        ? new McqFlashcard((McqFlashcard) flashcard)
+                        : new ShortAnswerFlashcard((ShortAnswerFlashcard) flashcard);
+                edited.removeTag(tag);
+                list.setFlashcard(flashcard, edited);
+            }
+        });
+    }
+
+    /**
+     * Makes all the modifications in {@code changes} to this flashcard list as one transaction.
+     * Listeners of the flashcard list and of its observable list are notified once, after {@code changes} returns,
+     * however many flashcards were modified. Transactions may be nested; only the outermost one notifies.
+     * If {@code changes} throws, its modifications are rolled back before the exception is rethrown.
+     */
+    public void batch(Consumer<? super FlashcardList> changes) {
+        requireNonNull(changes);
+        batchDepth++;
+        boolean isCompleted = false;
+        try {
+            flashcards.batch(() -> changes.accept(this));
+            isCompleted = true;
+        } finally {
+            batchDepth--;
+            if (batchDepth == 0) {
+                boolean isModified = isModifiedInBatch && isCompleted;
+                isModifiedInBatch = false;
+                if (isModified) {
+                    indicateModified();
+                }
+            }
+        }
+    }
+
+    /**
+     * Notifies listeners that the score or schedule of {@code flashcard} has changed,
+     * as these change within the flashcard rather than by replacing it.
+     * Listeners of the observable list are told of it as an update of the flashcard's position.
+     */
+    public void indicateFlashcardReviewed(Flashcard flashcard) {
+        flashcards.indicateReviewed(flashcard);
         indicateModified();
     }
 
     /**
      * Notifies listeners that the flashcard list has been modified.
+     * Within a {@code batch}, the notification is held back until the batch ends.
      */
     protected void indicateModified() {
+        if (batchDepth > 0) {
+            isModifiedInBatch = true;
+            return;
+        }
         invalidationListenerManager.callListeners(this);
     }
 
@@ -24,9 +24,17 @@ public interface Model {
 
     /**
      * {@code Predicate} that evaluates true for flashcards contains the given tag.
+     * The matching flashcards are looked up once, from the flashcard list as it is when this is called.
      */
     Predicate<Flashcard> getHasTagPredicate(Set<Tag> tag);
 
+    /**
+     * {@code Predicate} that evaluates true for flashcards whose question, definition or answer
+     * contains any of the given keywords as a whole word, ignoring case.
+     * The matching flashcards are looked up once, from the flashcard list as it is when this is called.
+     */
+    Predicate<Flashcard> getContainsAnyKeywordPredicate(List<String> keywords);
+
     /**
      * Get the set of all tags in the system.
      */
@@ -127,9 +135,11 @@ public interface Model {
     Flashcard getLastViewedFlashcard();
 
     /**
-     * Calculates the desired statistics based on the filtered list.
+     * Calculates the desired statistics for the flashcards carrying any of the given {@code tags},
+     * or for all flashcards if {@code tags} is null.
+     * The filtered list must be showing exactly those flashcards.
      */
-    String generateStatistics();
+    String generateStatistics(Set<Tag> tags);
 
     /**
      * Retrieves the desired statistics.
@@ -153,6 +163,25 @@ public interface Model {
      */
     void setQuizDuration(Integer duration);
 
+    /**
+     * Returns the flashcards in the flashcard list that are due for review now, the longest overdue first.
+     */
+    List<Flashcard> getDueFlashcards();
+
+    /**
+     * Reschedules the review of {@code flashcard} after it was answered now with the given quality.
+     * @param quality Quality of the answer, from 0 to 5.
+     */
+    void reviewFlashcard(Flashcard flashcard, int quality);
+
+    /**
+     * Returns as many flashcards as the filtered list holds, drawn one at a time from the filtered list
+     * with probability proportional to their share of wrong answers.
+     * Each flashcard is drawn when it is first asked for, so it is weighed by the answers given before then.
+     * The filtered list must not be empty.
+     */
+    List<Flashcard> getWeakFlashcardSample();
+
     /**
      * Returns true if the model has previous flashcard list states to restore.
      */
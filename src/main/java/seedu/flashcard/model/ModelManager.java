@@ -5,7 +5,9 @@ import static seedu.flashcard.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -17,6 +19,7 @@ import javafx.collections.transformation.FilteredList;
 import seedu.flashcard.commons.core.GuiSettings;
 import seedu.flashcard.commons.core.LogsCenter;
 import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.ReviewQueue;
 import seedu.flashcard.model.tag.Tag;
 
 /**
@@ -29,8 +32,12 @@ public class ModelManager implements Model {
     private final FilteredList<Flashcard> filteredFlashcards;
     private Flashcard viewedFlashcard;
     private Statistics desiredStats;
+    private final StatisticsTracker statisticsTracker;
+    private final ReviewQueue reviewQueue;
+    private final Random random = new Random();
     private Quiz quiz;
     private VersionedFlashcardList versionedFlashcardList;
+    private boolean hasFlashcardsChanged;
     private final SimpleObjectProperty<Flashcard> selectedFlashcard = new SimpleObjectProperty<>();
 
 
@@ -47,21 +54,69 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyFlashcardList flashcardList, ReadOnlyUserPrefs userPrefs) {
         super();
         requireAllNonNull(flashcardList, userPrefs);
-        this.versionedFlashcardList = new VersionedFlashcardList(flashcardList);
         logger.fine("Initializing with flashcard list: " + flashcardList + " and user prefs " + userPrefs);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.versionedFlashcardList = new VersionedFlashcardList(flashcardList,
+                this.userPrefs.getUndoHistoryLimit(), this.userPrefs.getUndoHistoryMemoryLimit());
         filteredFlashcards = new FilteredList<Flashcard>(versionedFlashcardList.getFlashcardList());
         this.viewedFlashcard = null;
         this.desiredStats = new Statistics();
+        this.statisticsTracker = new StatisticsTracker(versionedFlashcardList.getFlashcardList(),
+                versionedFlashcardList::positionOf);
+        this.reviewQueue = new ReviewQueue(versionedFlashcardList.getFlashcardList());
         this.quiz = new Quiz();
         filteredFlashcards.addListener(this::ensureSelectedFlashcardIsValid);
+        versionedFlashcardList.getFlashcardList().addListener(this::noteChangedFlashcards);
+        versionedFlashcardList.addListener(unused -> refreshIndexedFilter());
 
     }
 
     @Override
     public Predicate<Flashcard> getHasTagPredicate(Set<Tag> tag) {
         requireNonNull(tag);
-        return flashcard -> flashcard.hasAnyTag(tag);
+        return new IndexedPredicate(flashcardList -> flashcardList.getFlashcardsWithAnyTag(tag),
+                versionedFlashcardList);
+    }
+
+    @Override
+    public Predicate<Flashcard> getContainsAnyKeywordPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        return new IndexedPredicate(flashcardList -> flashcardList.getFlashcardsContainingAnyWord(keywords),
+                versionedFlashcardList);
+    }
+
+    /**
+     * Notes whether {@code change} added, removed or replaced any flashcards.
+     * Reviews only report their flashcards as updated, and cannot change which flashcards match a filter.
+     */
+    private void noteChangedFlashcards(ListChangeListener.Change<? extends Flashcard> change) {
+        while (change.next()) {
+            if (!change.wasUpdated()) {
+                hasFlashcardsChanged = true;
+            }
+        }
+    }
+
+    /**
+     * Looks up again the flashcards matching the filter, if it is answered from the indexes of the flashcard list,
+     * and filters the list anew if they have changed.
+     * Flashcards added or edited while the filter is on are tested against it before the indexes know of them,
+     * so they are only let through here, once the flashcard list has finished changing.
+     * Nothing is looked up if the flashcards were only reviewed since the last time.
+     */
+    private void refreshIndexedFilter() {
+        if (!hasFlashcardsChanged) {
+            return;
+        }
+        hasFlashcardsChanged = false;
+        Predicate<? super Flashcard> predicate = filteredFlashcards.getPredicate();
+        if (!(predicate instanceof IndexedPredicate)) {
+            return;
+        }
+        IndexedPredicate refreshed = ((IndexedPredicate) predicate).lookUpAgain(versionedFlashcardList);
+        if (!refreshed.equals(predicate)) {
+            filteredFlashcards.setPredicate(refreshed);
+        }
     }
 
     @Override
@@ -73,6 +128,8 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        versionedFlashcardList.setHistoryLimits(this.userPrefs.getUndoHistoryLimit(),
+                this.userPrefs.getUndoHistoryMemoryLimit());
     }
 
     @Override
@@ -183,8 +240,16 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public String generateStatistics() {
-        desiredStats.calculate(filteredFlashcards);
+    public String generateStatistics(Set<Tag> tags) {
+        if (tags == null) {
+            desiredStats.setTotals(statisticsTracker.getTotals(), filteredFlashcards);
+        } else if (tags.size() == 1) {
+            desiredStats.setTotals(statisticsTracker.getTotals(tags.iterator().next()), filteredFlashcards);
+        } else {
+            // Totals are kept per tag, and flashcards with several of the tags must only be counted once
+            desiredStats.setTotals(statisticsTracker.getTotals(versionedFlashcardList.getFlashcardsWithAnyTag(tags)),
+                    filteredFlashcards);
+        }
         return desiredStats.getResults();
     }
 
@@ -208,6 +273,23 @@ public class ModelManager implements Model {
         quiz.setDuration(duration);
     }
 
+    @Override
+    public List<Flashcard> getDueFlashcards() {
+        return reviewQueue.getDueFlashcards(System.currentTimeMillis());
+    }
+
+    @Override
+    public void reviewFlashcard(Flashcard flashcard, int quality) {
+        requireNonNull(flashcard);
+        reviewQueue.review(flashcard, quality, System.currentTimeMillis());
+        versionedFlashcardList.indicateFlashcardReviewed(flashcard);
+    }
+
+    @Override
+    public List<Flashcard> getWeakFlashcardSample() {
+        return new WeakFlashcardSample(filteredFlashcards, filteredFlashcards.size(), random);
+    }
+
     @Override
     public boolean canUndoFlashcardList() {
         return versionedFlashcardList.canUndo();
@@ -248,6 +330,46 @@ public class ModelManager implements Model {
         return quiz.remainingCardsProperty();
     }
 
+    /**
+     * A filter answered from the indexes of a flashcard list: the flashcards it lets through are looked up once,
+     * when it is created, rather than tested one at a time.
+     */
+    private static class IndexedPredicate implements Predicate<Flashcard> {
+
+        private final Function<FlashcardList, Set<Flashcard>> query;
+        private final Set<Flashcard> matchingFlashcards;
+
+        IndexedPredicate(Function<FlashcardList, Set<Flashcard>> query, FlashcardList flashcardList) {
+            this.query = query;
+            this.matchingFlashcards = query.apply(flashcardList);
+        }
+
+        /**
+         * Returns this filter with its flashcards looked up again in {@code flashcardList}.
+         */
+        IndexedPredicate lookUpAgain(FlashcardList flashcardList) {
+            return new IndexedPredicate(query, flashcardList);
+        }
+
+        @Override
+        public boolean test(Flashcard flashcard) {
+            return matchingFlashcards.contains(flashcard);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof IndexedPredicate
+                    && matchingFlashcards.equals(((IndexedPredicate) other).matchingFlashcards));
+        }
+
+        @Override
+        public int hashCode() {
+            // Hashing the flashcards themselves would read their definitions
+            return matchingFlashcards.size();
+        }
+    }
+
     /**
      * Ensures {@code selectedPerson} is a valid person in {@code filteredPersons}.
      */
@@ -1,19 +1,26 @@
 package seedu.flashcard.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.ObservableList;
 import seedu.flashcard.model.flashcard.Flashcard;
 import seedu.flashcard.model.flashcard.exceptions.CardNotFoundException;
 
 /**
  * Quiz object containing all quizable flashcards when quiz is initiated.
+ * The flashcards are walked with a cursor instead of being removed, so moving on to the next card takes constant time.
+ * An observable list, which may change during the quiz, is copied when the quiz starts; any other list is handed over
+ * to the quiz and walked in place, so a list that draws its flashcards only as they are asked for,
+ * such as a {@code WeakFlashcardSample}, draws each one only once the quiz reaches it.
  */
 public class Quiz {
 
-    private List<Flashcard> quizableFlashcards = new ArrayList<>();
+    private List<Flashcard> quizableFlashcards = Collections.emptyList();
+    private int cursor = 0;
     private IntegerProperty duration = new SimpleIntegerProperty();
     private IntegerProperty totalCards = new SimpleIntegerProperty();
     private IntegerProperty remainingCards = new SimpleIntegerProperty();
@@ -24,10 +31,15 @@ public class Quiz {
 
     /**
      * Sets a list of flashcards to be quizzed.
+     * An observable list is copied, so it may keep changing without affecting the quiz.
+     * Any other list is quizzed in place, and must not be changed by the caller until the quiz has ended.
      * @param quizableFlashcards List of flashcards to be quizzed.
      */
     public void setQuizList(List<Flashcard> quizableFlashcards) {
-        this.quizableFlashcards = quizableFlashcards;
+        this.quizableFlashcards = quizableFlashcards instanceof ObservableList
+            ? new ArrayList<>(quizableFlashcards)
+            : quizableFlashcards;
+        cursor = 0;
         totalCards.set(quizableFlashcards.size());
         remainingCards.set(quizableFlashcards.size());
     }
@@ -37,7 +49,7 @@ public class Quiz {
      * @return List of quizable flashcards.
      */
     public List<Flashcard> getQuizableFlashcards() {
-        return quizableFlashcards;
+        return Collections.unmodifiableList(quizableFlashcards.subList(cursor, quizableFlashcards.size()));
     }
 
     /**
@@ -46,11 +58,11 @@ public class Quiz {
      * @throws CardNotFoundException when there are no cards in the list.
      */
     public Flashcard quizCard() throws CardNotFoundException {
-        if (quizableFlashcards.isEmpty()) {
+        if (this.isEmpty()) {
             throw new CardNotFoundException();
         } else {
-            remainingCards.set(quizableFlashcards.size());
-            return quizableFlashcards.get(0);
+            remainingCards.set(quizableFlashcards.size() - cursor);
+            return quizableFlashcards.get(cursor);
         }
     }
 
@@ -62,7 +74,7 @@ public class Quiz {
         if (this.isEmpty()) {
             throw new CardNotFoundException();
         } else {
-            quizableFlashcards.remove(0);
+            cursor++;
         }
     }
 
@@ -71,7 +83,7 @@ public class Quiz {
      * @return true if there are no cards in the quizable list.
      */
     public boolean isEmpty() {
-        return quizableFlashcards.isEmpty();
+        return cursor >= quizableFlashcards.size();
     }
 
     public IntegerProperty getDurationProperty() {
@@ -99,6 +111,6 @@ public class Quiz {
             return false;
         }
         Quiz obj = (Quiz) other;
-        return quizableFlashcards.equals(obj.quizableFlashcards);
+        return getQuizableFlashcards().equals(obj.getQuizableFlashcards());
     }
 }
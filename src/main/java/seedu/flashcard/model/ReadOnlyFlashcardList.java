@@ -15,4 +15,12 @@ public interface ReadOnlyFlashcardList extends Observable {
      * This list guarantees no duplicate flashcard will be contained.
      */
     ObservableList<Flashcard> getFlashcardList();
+
+    /**
+     * Returns the positions in the list of the flashcards reviewed since the list was last saved,
+     * or null if they are not known, in which case any flashcard may have been reviewed.
+     */
+    default int[] getReviewedPositions() {
+        return null;
+    }
 }
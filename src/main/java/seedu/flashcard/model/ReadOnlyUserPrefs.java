@@ -2,6 +2,7 @@ package seedu.flashcard.model;
 
 import java.nio.file.Path;
 
+import seedu.flashcard.commons.core.FlashcardListFormat;
 import seedu.flashcard.commons.core.GuiSettings;
 
 /**
@@ -12,4 +13,24 @@ public interface ReadOnlyUserPrefs {
     GuiSettings getGuiSettings();
 
     Path getFlashcardListFilePath();
+
+    /**
+     * Returns the maximum number of commands that can be undone.
+     */
+    int getUndoHistoryLimit();
+
+    /**
+     * Returns the estimated number of bytes the undo history may hold on to.
+     */
+    long getUndoHistoryMemoryLimit();
+
+    /**
+     * Returns true if the definitions of loaded flashcards are kept in a file on disk instead of in memory.
+     */
+    boolean isDefinitionsOnDisk();
+
+    /**
+     * Returns the format the flashcard list is saved in.
+     */
+    FlashcardListFormat getFlashcardListFormat();
 }
@@ -0,0 +1,85 @@
+package seedu.flashcard.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.Question;
+
+/**
+ * Running totals of the scores of a group of flashcards, updated one flashcard at a time.
+ * Unattempted flashcards are given in display order, which is only worked out when they are asked for.
+ */
+class ScoreTotals {
+
+    private int totalCorrect = 0;
+    private int totalWrong = 0;
+    private int totalAttempted = 0;
+    private final Map<Question, Flashcard> unattempted = new HashMap<>();
+    private final Comparator<Flashcard> displayOrder;
+
+    ScoreTotals(Comparator<Flashcard> displayOrder) {
+        this.displayOrder = displayOrder;
+    }
+
+    /**
+     * Counts {@code flashcard}, with the given numbers of correct and wrong answers, into the totals.
+     */
+    void add(Flashcard flashcard, int correctAnswers, int wrongAnswers) {
+        totalCorrect += correctAnswers;
+        totalWrong += wrongAnswers;
+        if (correctAnswers + wrongAnswers > 0) {
+            totalAttempted++;
+        } else {
+            unattempted.put(flashcard.getQuestion(), flashcard);
+        }
+    }
+
+    /**
+     * Takes {@code flashcard}, counted in with the given numbers of correct and wrong answers, out of the totals.
+     */
+    void remove(Flashcard flashcard, int correctAnswers, int wrongAnswers) {
+        totalCorrect -= correctAnswers;
+        totalWrong -= wrongAnswers;
+        if (correctAnswers + wrongAnswers > 0) {
+            totalAttempted--;
+        } else {
+            unattempted.remove(flashcard.getQuestion());
+        }
+    }
+
+    /**
+     * Returns true if no flashcards are counted in the totals.
+     */
+    boolean isEmpty() {
+        return totalAttempted == 0 && unattempted.isEmpty();
+    }
+
+    int getTotalCorrect() {
+        return totalCorrect;
+    }
+
+    int getTotalWrong() {
+        return totalWrong;
+    }
+
+    int getTotalAttempted() {
+        return totalAttempted;
+    }
+
+    int getTotalUnattempted() {
+        return unattempted.size();
+    }
+
+    /**
+     * Returns the unattempted flashcards, in display order.
+     */
+    List<Flashcard> getUnattempted() {
+        List<Flashcard> inDisplayOrder = new ArrayList<>(unattempted.values());
+        inDisplayOrder.sort(displayOrder);
+        return inDisplayOrder;
+    }
+}
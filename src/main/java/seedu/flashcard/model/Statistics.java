@@ -1,7 +1,10 @@
 package seedu.flashcard.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.chart.XYChart;
 import seedu.flashcard.model.flashcard.Flashcard;
@@ -10,6 +13,8 @@ import seedu.flashcard.model.flashcard.Score;
 
 /**
  * Statistics object that contains all desired statistics.
+ * The per-card chart series are only built when first asked for, from the flashcards and scores
+ * as they were when the statistics were taken.
  */
 public class Statistics {
     private Integer totalCorrect;
@@ -17,6 +22,8 @@ public class Statistics {
     private Integer totalAttempted;
     private Integer totalUnattempted;
     private ArrayList<String> unattemptedList;
+    private List<Flashcard> chartedFlashcards;
+    private List<Score> chartedScores;
     private XYChart.Series<String, Number> correctSeries;
     private XYChart.Series<String, Number> wrongSeries;
 
@@ -41,15 +48,57 @@ public class Statistics {
                 totalUnattempted++;
                 unattemptedList.add(flashcard.getQuestion().toString());
             }
+        }
+        chart(target);
+    }
 
-            correctSeries.setName("correct");
-            correctSeries.getData().add(new XYChart.Data<>(flashcard.getQuestion().shortenForLabel(),
-                    score.getCorrectAnswers()));
+    /**
+     * Takes the statistics from running totals instead of walking the flashcards they were kept over.
+     * @param totals totals kept over the flashcards to be described
+     * @param charted the same flashcards in display order, copied for the chart series
+     */
+    void setTotals(ScoreTotals totals, List<Flashcard> charted) {
+        reset();
+        totalCorrect = totals.getTotalCorrect();
+        totalWrong = totals.getTotalWrong();
+        totalAttempted = totals.getTotalAttempted();
+        totalUnattempted = totals.getTotalUnattempted();
+        for (Flashcard flashcard : totals.getUnattempted()) {
+            unattemptedList.add(flashcard.getQuestion().toString());
+        }
+        chart(charted);
+    }
 
-            wrongSeries.setName("wrong");
-            wrongSeries.getData().add(new XYChart.Data<>(flashcard.getQuestion().shortenForLabel(),
-                score.getWrongAnswers()));
+    /**
+     * Keeps {@code flashcards} and their current scores for the chart series,
+     * as the list may be a view that changes, and the flashcards may be reviewed, before the series are built.
+     */
+    private void chart(List<Flashcard> flashcards) {
+        chartedFlashcards = new ArrayList<>(flashcards);
+        chartedScores = new ArrayList<>(flashcards.size());
+        for (Flashcard flashcard : flashcards) {
+            chartedScores.add(flashcard.getScore());
+        }
+    }
+
+    /**
+     * Builds the chart series from the charted flashcards, unless they have been built since the last calculation.
+     */
+    private void buildSeries() {
+        if (correctSeries != null) {
+            return;
+        }
+        List<XYChart.Data<String, Number>> correctData = new ArrayList<>(chartedFlashcards.size());
+        List<XYChart.Data<String, Number>> wrongData = new ArrayList<>(chartedFlashcards.size());
+        for (int i = 0; i < chartedFlashcards.size(); i++) {
+            Score score = chartedScores.get(i);
+            String label = chartedFlashcards.get(i).getQuestion().shortenForLabel();
+            correctData.add(new XYChart.Data<>(label, score.getCorrectAnswers()));
+            wrongData.add(new XYChart.Data<>(label, score.getWrongAnswers()));
         }
+        // A series checks all of its data for duplicates on every change, so the data goes in all at once
+        correctSeries = new XYChart.Series<>("correct", FXCollections.observableList(correctData));
+        wrongSeries = new XYChart.Series<>("wrong", FXCollections.observableList(wrongData));
     }
 
     /**
@@ -61,8 +110,10 @@ public class Statistics {
         totalAttempted = 0;
         totalUnattempted = 0;
         unattemptedList = new ArrayList<>();
-        correctSeries = new XYChart.Series<>();
-        wrongSeries = new XYChart.Series<>();
+        chartedFlashcards = Collections.emptyList();
+        chartedScores = Collections.emptyList();
+        correctSeries = null;
+        wrongSeries = null;
     }
 
     /**
@@ -84,11 +135,11 @@ public class Statistics {
      * @return a string of cards
      */
     private String concatUnattempted () {
-        String list = "";
+        StringBuilder list = new StringBuilder();
         for (String s : unattemptedList) {
-            list += " -" + s + "\n";
+            list.append(" -").append(s).append("\n");
         }
-        return list;
+        return list.toString();
     }
 
     public Integer getTotalCorrect() {
@@ -112,10 +163,12 @@ public class Statistics {
     }
 
     public XYChart.Series<String, Number> getCorrectSeries() {
+        buildSeries();
         return correctSeries;
     }
 
     public XYChart.Series<String, Number> getWrongSeries() {
+        buildSeries();
         return wrongSeries;
     }
 }
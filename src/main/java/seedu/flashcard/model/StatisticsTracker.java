@@ -0,0 +1,124 @@
+package seedu.flashcard.model;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.Score;
+import seedu.flashcard.model.flashcard.ScoreChangeListener;
+import seedu.flashcard.model.tag.Tag;
+
+/**
+ * Keeps the {@code ScoreTotals} of the flashcards in a list, overall and for each tag, up to date
+ * by following changes to the list and to the scores of the flashcards in it.
+ * Each change costs time proportional to the number of tags of the flashcards involved, not to the size of the list.
+ */
+class StatisticsTracker {
+
+    private final Comparator<Flashcard> displayOrder;
+    private final ScoreTotals overallTotals;
+    private final Map<Tag, ScoreTotals> tagTotals = new HashMap<>();
+    private final ScoreChangeListener scoreListener = this::followScoreChange;
+
+    /**
+     * Creates a tracker over {@code flashcards}, where {@code positions} gives the position of a flashcard in it.
+     */
+    StatisticsTracker(ObservableList<Flashcard> flashcards, ToIntFunction<Flashcard> positions) {
+        displayOrder = Comparator.comparingInt(positions);
+        overallTotals = new ScoreTotals(displayOrder);
+        flashcards.forEach(this::track);
+        flashcards.addListener(this::followChange);
+    }
+
+    /**
+     * Returns the totals over all flashcards in the list.
+     */
+    ScoreTotals getTotals() {
+        return overallTotals;
+    }
+
+    /**
+     * Returns the totals over the flashcards in the list carrying {@code tag}.
+     */
+    ScoreTotals getTotals(Tag tag) {
+        return tagTotals.getOrDefault(tag, new ScoreTotals(displayOrder));
+    }
+
+    /**
+     * Returns the totals over {@code flashcards}, which must all be in the list.
+     * Unlike the totals kept by the tracker, these are added up on every call and do not follow later changes.
+     */
+    ScoreTotals getTotals(Collection<Flashcard> flashcards) {
+        ScoreTotals totals = new ScoreTotals(displayOrder);
+        for (Flashcard flashcard : flashcards) {
+            Score score = flashcard.getScore();
+            totals.add(flashcard, score.getCorrectAnswers(), score.getWrongAnswers());
+        }
+        return totals;
+    }
+
+    /**
+     * Updates the totals for the flashcards that {@code change} took out of or put into the list.
+     * All removals are handled before any addition, as a flashcard that moved is reported as both.
+     */
+    private void followChange(ListChangeListener.Change<? extends Flashcard> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::untrack);
+        }
+        change.reset();
+        while (change.next()) {
+            change.getAddedSubList().forEach(this::track);
+        }
+    }
+
+    /**
+     * Moves {@code flashcard} in the totals from its old score to its current one.
+     */
+    private void followScoreChange(Flashcard flashcard, int oldCorrectAnswers, int oldWrongAnswers) {
+        Score score = flashcard.getScore();
+        forEachTotals(flashcard, totals -> {
+            totals.remove(flashcard, oldCorrectAnswers, oldWrongAnswers);
+            totals.add(flashcard, score.getCorrectAnswers(), score.getWrongAnswers());
+        });
+    }
+
+    /**
+     * Counts {@code flashcard} into the totals and follows changes to its score.
+     */
+    private void track(Flashcard flashcard) {
+        Score score = flashcard.getScore();
+        forEachTotals(flashcard, totals -> totals.add(flashcard, score.getCorrectAnswers(), score.getWrongAnswers()));
+        flashcard.addScoreListener(scoreListener);
+    }
+
+    /**
+     * Takes {@code flashcard} out of the totals and stops following changes to its score.
+     */
+    private void untrack(Flashcard flashcard) {
+        Score score = flashcard.getScore();
+        flashcard.removeScoreListener(scoreListener);
+        forEachTotals(flashcard, totals ->
+            totals.remove(flashcard, score.getCorrectAnswers(), score.getWrongAnswers()));
+        for (Tag tag : flashcard.getTags()) {
+            if (tagTotals.get(tag).isEmpty()) {
+                tagTotals.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Runs {@code action} on the overall totals and on the totals of each tag of {@code flashcard}.
+     */
+    private void forEachTotals(Flashcard flashcard, Consumer<ScoreTotals> action) {
+        action.accept(overallTotals);
+        for (Tag tag : flashcard.getTags()) {
+            action.accept(tagTotals.computeIfAbsent(tag, unused -> new ScoreTotals(displayOrder)));
+        }
+    }
+}
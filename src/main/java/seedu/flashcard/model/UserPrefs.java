@@ -1,10 +1,12 @@
 package seedu.flashcard.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.flashcard.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import seedu.flashcard.commons.core.FlashcardListFormat;
 import seedu.flashcard.commons.core.GuiSettings;
 
 /**
@@ -12,9 +14,16 @@ import seedu.flashcard.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 100;
+    public static final long DEFAULT_UNDO_HISTORY_MEMORY_LIMIT = 64L * 1024 * 1024;
+
     private GuiSettings guiSettings = new GuiSettings();
     // TODO: make the following path reasonable
     private Path flashcardListFilePath = Paths.get("data", "flashcardlist.json");
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
+    private long undoHistoryMemoryLimit = DEFAULT_UNDO_HISTORY_MEMORY_LIMIT;
+    private boolean definitionsOnDisk = false;
+    private FlashcardListFormat flashcardListFormat = FlashcardListFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values
@@ -37,6 +46,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setFlashcardListFilePath(newUserPrefs.getFlashcardListFilePath());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
+        setUndoHistoryMemoryLimit(newUserPrefs.getUndoHistoryMemoryLimit());
+        setDefinitionsOnDisk(newUserPrefs.isDefinitionsOnDisk());
+        setFlashcardListFormat(newUserPrefs.getFlashcardListFormat());
     }
 
     @Override
@@ -59,6 +72,51 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.flashcardListFilePath = flashcardListFilePath;
     }
 
+    @Override
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    /**
+     * Sets the number of commands that can be undone. Must not be negative.
+     */
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        checkArgument(undoHistoryLimit >= 0, "Undo history limit should not be negative");
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    @Override
+    public long getUndoHistoryMemoryLimit() {
+        return undoHistoryMemoryLimit;
+    }
+
+    /**
+     * Sets the estimated number of bytes the undo history may hold on to. Must not be negative.
+     */
+    public void setUndoHistoryMemoryLimit(long undoHistoryMemoryLimit) {
+        checkArgument(undoHistoryMemoryLimit >= 0, "Undo history memory limit should not be negative");
+        this.undoHistoryMemoryLimit = undoHistoryMemoryLimit;
+    }
+
+    @Override
+    public boolean isDefinitionsOnDisk() {
+        return definitionsOnDisk;
+    }
+
+    public void setDefinitionsOnDisk(boolean definitionsOnDisk) {
+        this.definitionsOnDisk = definitionsOnDisk;
+    }
+
+    @Override
+    public FlashcardListFormat getFlashcardListFormat() {
+        return flashcardListFormat;
+    }
+
+    public void setFlashcardListFormat(FlashcardListFormat flashcardListFormat) {
+        requireNonNull(flashcardListFormat);
+        this.flashcardListFormat = flashcardListFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -71,6 +129,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && flashcardListFilePath.equals(o.flashcardListFilePath);
+                && flashcardListFilePath.equals(o.flashcardListFilePath)
+                && undoHistoryLimit == o.undoHistoryLimit
+                && undoHistoryMemoryLimit == o.undoHistoryMemoryLimit
+                && definitionsOnDisk == o.definitionsOnDisk
+                && flashcardListFormat == o.flashcardListFormat;
     }
 }
@@ -1,37 +1,82 @@
 package seedu.flashcard.model;
 
+import static seedu.flashcard.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
+import seedu.flashcard.model.flashcard.Flashcard;
+
 /**
- * {@code AddressBook} that keeps track of its own history.
+ * {@code FlashcardList} that keeps track of its own history.
+ * Instead of whole copies of the flashcard list, each commit saves a {@code Delta}: the edits it made to the list,
+ * which can be applied backwards on undo and forwards on redo in time proportional to their size.
+ * The oldest deltas are evicted once the history holds more than a set number of them,
+ * or more than a set number of estimated bytes.
  */
 public class VersionedFlashcardList extends FlashcardList {
 
-    private final List<ReadOnlyFlashcardList> flashcardListStateList;
+    private final List<Delta> deltas = new ArrayList<>();
+    private final List<Edit> uncommittedEdits = new ArrayList<>();
     private int currentStatePointer;
+    private int historyLimit;
+    private long historyMemoryLimit;
+    private long historyBytes;
+    private boolean isReplaying = false;
 
     public VersionedFlashcardList(ReadOnlyFlashcardList initialState) {
-        super(initialState);
+        this(initialState, UserPrefs.DEFAULT_UNDO_HISTORY_LIMIT, UserPrefs.DEFAULT_UNDO_HISTORY_MEMORY_LIMIT);
+    }
 
-        flashcardListStateList = new ArrayList<>();
-        flashcardListStateList.add(new FlashcardList(initialState));
+    public VersionedFlashcardList(ReadOnlyFlashcardList initialState, int historyLimit, long historyMemoryLimit) {
+        super(initialState);
+        setHistoryLimits(historyLimit, historyMemoryLimit);
         currentStatePointer = 0;
+        getFlashcardList().addListener(this::recordEdits);
     }
 
     /**
-     * Saves a copy of the current {@code FlashcardList} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Sets the number of deltas and the estimated bytes the history may hold, evicting the oldest deltas if needed.
+     */
+    public void setHistoryLimits(int historyLimit, long historyMemoryLimit) {
+        checkArgument(historyLimit >= 0 && historyMemoryLimit >= 0);
+        this.historyLimit = historyLimit;
+        this.historyMemoryLimit = historyMemoryLimit;
+        evictOldestDeltas();
+    }
+
+    /**
+     * Saves the changes made since the last commit as a delta at the end of the history.
+     * Undone deltas are removed from the history.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        flashcardListStateList.add(new FlashcardList(this));
+        removeDeltasAfterCurrentPointer();
+        Delta delta = new Delta(new ArrayList<>(uncommittedEdits));
+        uncommittedEdits.clear();
+        deltas.add(delta);
+        historyBytes += delta.estimatedBytes;
         currentStatePointer++;
+        evictOldestDeltas();
         indicateModified();
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        flashcardListStateList.subList(currentStatePointer + 1, flashcardListStateList.size()).clear();
+    private void removeDeltasAfterCurrentPointer() {
+        List<Delta> undoneDeltas = deltas.subList(currentStatePointer, deltas.size());
+        undoneDeltas.forEach(delta -> historyBytes -= delta.estimatedBytes);
+        undoneDeltas.clear();
+    }
+
+    /**
+     * Drops the oldest deltas until the history is within its limits.
+     * The most recent delta is kept even if it alone exceeds the memory limit, so the last command can be undone.
+     */
+    private void evictOldestDeltas() {
+        while (currentStatePointer > 0
+                && (deltas.size() > historyLimit || (historyBytes > historyMemoryLimit && deltas.size() > 1))) {
+            historyBytes -= deltas.remove(0).estimatedBytes;
+            currentStatePointer--;
+        }
     }
 
     /**
@@ -41,8 +86,13 @@ public class VersionedFlashcardList extends FlashcardList {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        Delta delta = deltas.get(currentStatePointer - 1);
+        replay(() -> {
+            new Delta(uncommittedEdits).revert(this);
+            delta.revert(this);
+        });
+        uncommittedEdits.clear();
         currentStatePointer--;
-        resetData(flashcardListStateList.get(currentStatePointer));
     }
 
     /**
@@ -52,8 +102,13 @@ public class VersionedFlashcardList extends FlashcardList {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        Delta delta = deltas.get(currentStatePointer);
+        replay(() -> {
+            new Delta(uncommittedEdits).revert(this);
+            delta.apply(this);
+        });
+        uncommittedEdits.clear();
         currentStatePointer++;
-        resetData(flashcardListStateList.get(currentStatePointer));
     }
 
     /**
@@ -67,7 +122,36 @@ public class VersionedFlashcardList extends FlashcardList {
      * Returns true if {@code redo()} has flashcard list states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < flashcardListStateList.size() - 1;
+        return currentStatePointer < deltas.size();
+    }
+
+    /**
+     * Records the changes made to the live list since the last commit, unless they come from undo or redo.
+     * Reviews of flashcards, reported as updates, are not recorded, as undo does not take them back.
+     */
+    private void recordEdits(ListChangeListener.Change<? extends Flashcard> change) {
+        if (isReplaying) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                continue;
+            }
+            uncommittedEdits.add(new Edit(change.getFrom(),
+                    new ArrayList<>(change.getRemoved()), new ArrayList<>(change.getAddedSubList())));
+        }
+    }
+
+    /**
+     * Runs {@code replayer} as one batch, without recording the changes it makes to the live list.
+     */
+    private void replay(Runnable replayer) {
+        isReplaying = true;
+        try {
+            batch(unused -> replayer.run());
+        } finally {
+            isReplaying = false;
+        }
     }
 
     @Override
@@ -86,10 +170,109 @@ public class VersionedFlashcardList extends FlashcardList {
 
         // state check
         return super.equals(otherVersionedFlashcardList)
-                && flashcardListStateList.equals(otherVersionedFlashcardList.flashcardListStateList)
+                && deltas.equals(otherVersionedFlashcardList.deltas)
                 && currentStatePointer == otherVersionedFlashcardList.currentStatePointer;
     }
 
+    /**
+     * The edits made to the flashcard list by one commit, in the order they were made.
+     */
+    private static class Delta {
+        private final List<Edit> edits;
+        private final long estimatedBytes;
+
+        Delta(List<Edit> edits) {
+            this.edits = edits;
+            this.estimatedBytes = edits.stream().mapToLong(Edit::estimateBytes).sum();
+        }
+
+        /**
+         * Makes the edits of this delta on {@code flashcardList}, first edit first.
+         */
+        void apply(VersionedFlashcardList flashcardList) {
+            for (Edit edit : edits) {
+                flashcardList.replaceFlashcards(edit.from, edit.from + edit.removed.size(), edit.added);
+            }
+        }
+
+        /**
+         * Undoes the edits of this delta on {@code flashcardList}, last edit first.
+         */
+        void revert(VersionedFlashcardList flashcardList) {
+            for (int i = edits.size() - 1; i >= 0; i--) {
+                Edit edit = edits.get(i);
+                flashcardList.replaceFlashcards(edit.from, edit.from + edit.added.size(), edit.removed);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Delta && edits.equals(((Delta) other).edits));
+        }
+
+        @Override
+        public int hashCode() {
+            return edits.hashCode();
+        }
+    }
+
+    /**
+     * Replacement of the {@code removed} flashcards starting at {@code from} with the {@code added} flashcards.
+     */
+    private static class Edit {
+        private static final long EDIT_BYTES = 64;
+        private static final long REFERENCE_BYTES = 8;
+        private static final long FLASHCARD_BYTES = 256;
+        private static final long TAG_ID_BYTES = 4;
+
+        private final int from;
+        private final List<Flashcard> removed;
+        private final List<Flashcard> added;
+
+        Edit(int from, List<Flashcard> removed, List<Flashcard> added) {
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        /**
+         * Returns a rough estimate of the heap this edit keeps alive.
+         * Removed flashcards are counted in full as the history may be all that still refers to them,
+         * while added flashcards are still in the list and only cost a reference.
+         * Definitions kept in a segment only cost their reference, and are not read from it.
+         */
+        long estimateBytes() {
+            long bytes = EDIT_BYTES + REFERENCE_BYTES * (removed.size() + added.size());
+            for (Flashcard flashcard : removed) {
+                bytes += FLASHCARD_BYTES + TAG_ID_BYTES * flashcard.getTags().size()
+                        + 2L * (flashcard.getQuestion().question.length()
+                        + flashcard.getDefinition().getLengthInMemory()
+                        + flashcard.getAnswer().answer.length());
+            }
+            return bytes;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Edit)) {
+                return false;
+            }
+            Edit otherEdit = (Edit) other;
+            return from == otherEdit.from
+                    && removed.equals(otherEdit.removed)
+                    && added.equals(otherEdit.added);
+        }
+
+        @Override
+        public int hashCode() {
+            return from;
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
@@ -0,0 +1,78 @@
+package seedu.flashcard.model;
+
+import static seedu.flashcard.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.Score;
+
+/**
+ * A list of flashcards drawn one after another from a pool, each with probability proportional to its error rate.
+ * The error rate of a flashcard is its share of wrong answers, smoothed so that a flashcard never attempted counts
+ * as half wrong and no flashcard is ever left out entirely.
+ * Flashcards are drawn only when they are first asked for, and the error rate of each drawn flashcard is
+ * brought up to date before the next one is drawn, so a flashcard answered in between is weighed by its new score.
+ * The weights are kept in a {@code WeightTree}, so each draw takes time logarithmic in the size of the pool.
+ */
+class WeakFlashcardSample extends AbstractList<Flashcard> {
+
+    private final List<Flashcard> pool;
+    private final WeightTree weights;
+    private final Random random;
+    private final int size;
+    private final List<Flashcard> drawn = new ArrayList<>();
+    private int lastDrawnPosition = -1;
+
+    /**
+     * Creates a sample of {@code size} flashcards to be drawn from {@code pool}, which must not be empty.
+     */
+    WeakFlashcardSample(List<Flashcard> pool, int size, Random random) {
+        checkArgument(!pool.isEmpty() && size >= 0);
+        this.pool = new ArrayList<>(pool);
+        double[] initialWeights = new double[this.pool.size()];
+        for (int i = 0; i < initialWeights.length; i++) {
+            initialWeights[i] = getErrorRate(this.pool.get(i).getScore());
+        }
+        this.weights = new WeightTree(initialWeights);
+        this.random = random;
+        this.size = size;
+    }
+
+    /**
+     * Returns the smoothed share of wrong answers of a flashcard with {@code score}.
+     */
+    static double getErrorRate(Score score) {
+        return (score.getWrongAnswers() + 1.0) / (score.getTotalAttempts() + 2.0);
+    }
+
+    @Override
+    public Flashcard get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        while (drawn.size() <= index) {
+            drawn.add(draw());
+        }
+        return drawn.get(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Draws the next flashcard, after updating the weight of the last one drawn.
+     */
+    private Flashcard draw() {
+        if (lastDrawnPosition >= 0) {
+            weights.set(lastDrawnPosition, getErrorRate(pool.get(lastDrawnPosition).getScore()));
+        }
+        lastDrawnPosition = weights.find(random.nextDouble() * weights.getTotal());
+        return pool.get(lastDrawnPosition);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.flashcard.model;
+
+import static seedu.flashcard.commons.util.AppUtil.checkArgument;
+
+/**
+ * Non-negative weights at positions {@code 0} to {@code size() - 1}, kept in a Fenwick tree
+ * so that changing a weight and finding the position at which the running total of the weights passes a value
+ * both take time logarithmic in the number of weights.
+ */
+class WeightTree {
+
+    private final double[] weights;
+    // tree[i] holds the total of the weights at positions (i - lowestOneBit(i)) to (i - 1)
+    private final double[] tree;
+
+    /**
+     * Creates a tree holding the given weights, in time linear in their number.
+     */
+    WeightTree(double[] weights) {
+        for (double weight : weights) {
+            checkArgument(weight >= 0);
+        }
+        this.weights = weights.clone();
+        this.tree = new double[weights.length + 1];
+        for (int i = 1; i <= weights.length; i++) {
+            tree[i] += weights[i - 1];
+            int parent = i + Integer.lowestOneBit(i);
+            if (parent <= weights.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of weights.
+     */
+    int size() {
+        return weights.length;
+    }
+
+    /**
+     * Returns the weight at {@code position}.
+     */
+    double get(int position) {
+        return weights[position];
+    }
+
+    /**
+     * Changes the weight at {@code position} to {@code weight}.
+     */
+    void set(int position, double weight) {
+        checkArgument(weight >= 0);
+        double change = weight - weights[position];
+        weights[position] = weight;
+        for (int i = position + 1; i < tree.length; i += Integer.lowestOneBit(i)) {
+            tree[i] += change;
+        }
+    }
+
+    /**
+     * Returns the total of all the weights.
+     */
+    double getTotal() {
+        double total = 0;
+        for (int i = weights.length; i > 0; i -= Integer.lowestOneBit(i)) {
+            total += tree[i];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the first position at which the running total of the weights exceeds {@code value},
+     * which must be less than {@code getTotal()}.
+     * Choosing {@code value} uniformly from 0 to {@code getTotal()} thus chooses each position
+     * with probability proportional to its weight.
+     */
+    int find(double value) {
+        int position = 0;
+        double remaining = value;
+        for (int step = Integer.highestOneBit(Math.max(weights.length, 1)); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < tree.length && tree[next] <= remaining) {
+                position = next;
+                remaining -= tree[next];
+            }
+        }
+        // Rounding may leave the value past the last weight
+        return Math.min(position, weights.length - 1);
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.flashcard.model.flashcard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An array-backed {@code ObservableList} that can publish several modifications as a single change.
+ * Bulk operations report one change each and run in linear time.
+ * While a batch is open, the inverse of every modification is journaled so that a failed batch can be rolled back.
+ */
+class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+    private List<Runnable> journal = null;
+
+    /**
+     * Runs {@code modifications} against this list and notifies listeners of all of them in one change
+     * once they have finished. Batches may be nested.
+     * If {@code modifications} throws, the modifications it made are undone, and {@code afterRollBack} is run
+     * before listeners are told of the change, so that it can bring anything kept alongside the list up to date.
+     * The exception is then rethrown.
+     */
+    void batch(Runnable modifications, Runnable afterRollBack) {
+        boolean isOutermost = journal == null;
+        if (isOutermost) {
+            journal = new ArrayList<>();
+        }
+        int mark = journal.size();
+        beginChange();
+        try {
+            modifications.run();
+        } catch (RuntimeException e) {
+            rollBackTo(mark);
+            afterRollBack.run();
+            throw e;
+        } finally {
+            if (isOutermost) {
+                journal = null;
+            }
+            endChange();
+        }
+    }
+
+    /**
+     * Undoes the journaled modifications made after the first {@code mark} ones, most recent first.
+     */
+    private void rollBackTo(int mark) {
+        List<Runnable> inverses = journal.subList(mark, journal.size());
+        List<Runnable> toRun = new ArrayList<>(inverses);
+        inverses.clear();
+        List<Runnable> openJournal = journal;
+        journal = null;
+        try {
+            for (int i = toRun.size() - 1; i >= 0; i--) {
+                toRun.get(i).run();
+            }
+        } finally {
+            journal = openJournal;
+        }
+    }
+
+    /**
+     * Tells listeners that the element at {@code index} has changed within itself, without being replaced.
+     * Nothing is journaled, as the list itself is not modified.
+     */
+    void indicateUpdated(int index) {
+        beginChange();
+        try {
+            nextUpdate(index);
+        } finally {
+            endChange();
+        }
+    }
+
+    private void journal(Runnable inverse) {
+        if (journal != null) {
+            journal.add(inverse);
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+        journal(() -> remove(index));
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E replaced = elements.set(index, element);
+        journal(() -> set(index, replaced));
+        return replaced;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E removed = elements.remove(index);
+        journal(() -> add(index, removed));
+        return removed;
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> replacement) {
+        beginChange();
+        try {
+            List<E> removed = new ArrayList<>(elements);
+            elements.clear();
+            elements.addAll(replacement);
+            nextReplace(0, elements.size(), removed);
+            journal(() -> setAll(removed));
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> toAdd) {
+        if (index < 0 || index > elements.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + elements.size());
+        }
+        if (toAdd.isEmpty()) {
+            return false;
+        }
+        beginChange();
+        try {
+            elements.addAll(index, toAdd);
+            nextAdd(index, index + toAdd.size());
+            int addedSize = toAdd.size();
+            journal(() -> removeRange(index, index + addedSize));
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public void remove(int from, int to) {
+        removeRange(from, to);
+    }
+
+    @Override
+    protected void removeRange(int from, int to) {
+        if (from == to) {
+            return;
+        }
+        beginChange();
+        try {
+            List<E> range = elements.subList(from, to);
+            List<E> removed = new ArrayList<>(range);
+            nextRemove(from, removed);
+            range.clear();
+            journal(() -> addAll(from, removed));
+        } finally {
+            endChange();
+        }
+    }
+}
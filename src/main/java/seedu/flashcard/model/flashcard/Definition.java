@@ -6,6 +6,8 @@ import static seedu.flashcard.commons.util.AppUtil.checkArgument;
 
 /**
  * The definition of a word in the flashcard.
+ * The text is either held by the definition itself, or kept in a {@code DefinitionSegment}
+ * and only read from it when asked for.
  * TODO: Can be replaced by the options in the MCQ flashcard
  */
 public class Definition {
@@ -13,12 +15,30 @@ public class Definition {
     public static final String MESSAGE_CONSTRAINTS = "Definition can take any values, and it should not be blank";
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
-    public final String definition;
+    // Null when the text is kept in a segment
+    private final String definition;
+    private final DefinitionSegment segment;
+    private final int offset;
+    private final int length;
 
     public Definition(String definition) {
         requireNonNull(definition);
         checkArgument(isValidDefinition(definition));
         this.definition = definition;
+        this.segment = null;
+        this.offset = 0;
+        this.length = 0;
+    }
+
+    /**
+     * Used by {@code DefinitionSegment} for a definition whose text it keeps
+     * as {@code length} bytes starting at {@code offset}.
+     */
+    Definition(DefinitionSegment segment, int offset, int length) {
+        this.definition = null;
+        this.segment = segment;
+        this.offset = offset;
+        this.length = length;
     }
 
     /**
@@ -28,20 +48,43 @@ public class Definition {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the text of the definition, reading it from its segment if it is kept in one.
+     */
+    public String getDefinition() {
+        return segment == null ? definition : segment.read(offset, length);
+    }
+
+    /**
+     * Returns the number of characters of the text the definition keeps in memory,
+     * which is none if the text is kept in a segment. The text is not read from the segment.
+     */
+    public int getLengthInMemory() {
+        return segment == null ? definition.length() : 0;
+    }
+
     @Override
     public String toString() {
-        return definition;
+        return getDefinition();
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this
-                || (other instanceof Definition)
-                && definition.equals(((Definition) other).definition);
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Definition)) {
+            return false;
+        }
+        Definition otherDefinition = (Definition) other;
+        if (segment != null && segment == otherDefinition.segment && offset == otherDefinition.offset) {
+            return true;
+        }
+        return getDefinition().equals(otherDefinition.getDefinition());
     }
 
     @Override
     public int hashCode() {
-        return hash(definition);
+        return hash(getDefinition());
     }
 }
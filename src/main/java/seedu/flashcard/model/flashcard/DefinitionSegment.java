@@ -0,0 +1,132 @@
+package seedu.flashcard.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.flashcard.commons.util.AppUtil.checkArgument;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An append-only file holding the text of definitions, so that the text is not kept in memory.
+ * Definitions added to the segment refer to their text by its place in the file, which is mapped into memory
+ * and decoded only when the text is asked for. The most recently added or read texts are kept decoded.
+ * Added texts are written in batches, and the file is only mapped again when a text not yet mapped is read.
+ * The file is emptied when the segment is opened, as it only holds the definitions of the flashcards in use.
+ */
+public class DefinitionSegment implements Closeable {
+
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final Map<Integer, String> recentlyRead;
+    private final ByteBuffer unwritten = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+    private MappedByteBuffer mapped;
+    // Bytes in the segment, including those not yet written to the file
+    private int size = 0;
+
+    /**
+     * Opens a segment in the file at {@code filePath}, keeping the last {@code cacheSize} texts read decoded.
+     */
+    public DefinitionSegment(Path filePath, int cacheSize) throws IOException {
+        requireNonNull(filePath);
+        checkArgument(cacheSize >= 0);
+        channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        recentlyRead = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Appends {@code definition}, which must be valid, to the segment and returns a definition referring to it.
+     *
+     * @throws UncheckedIOException if the text could not be written, or the segment is full.
+     */
+    public synchronized Definition add(String definition) {
+        requireNonNull(definition);
+        checkArgument(Definition.isValidDefinition(definition));
+        byte[] bytes = definition.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Integer.MAX_VALUE - size) {
+            throw new UncheckedIOException(new IOException("Definition segment is full"));
+        }
+        int offset = size;
+        if (bytes.length > unwritten.remaining()) {
+            flush();
+        }
+        if (bytes.length > unwritten.remaining()) {
+            write(ByteBuffer.wrap(bytes), offset);
+        } else {
+            unwritten.put(bytes);
+        }
+        size += bytes.length;
+        recentlyRead.put(offset, definition);
+        return new Definition(this, offset, bytes.length);
+    }
+
+    /**
+     * Returns the text of {@code length} bytes starting at {@code offset}.
+     * The file is mapped again whenever the text lies past the part of it already mapped.
+     */
+    synchronized String read(int offset, int length) {
+        String text = recentlyRead.get(offset);
+        if (text != null) {
+            return text;
+        }
+        if (mapped == null || offset + length > mapped.capacity()) {
+            flush();
+            try {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        byte[] bytes = new byte[length];
+        mapped.position(offset);
+        mapped.get(bytes);
+        text = new String(bytes, StandardCharsets.UTF_8);
+        recentlyRead.put(offset, text);
+        return text;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Writes the added texts not yet in the file to it.
+     */
+    private void flush() {
+        unwritten.flip();
+        write(unwritten, size - unwritten.remaining());
+        unwritten.clear();
+    }
+
+    /**
+     * Writes all of {@code buffer} to the file, starting at {@code position}.
+     */
+    private void write(ByteBuffer buffer, long position) {
+        try {
+            long start = position - buffer.position();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, start + buffer.position());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package seedu.flashcard.model.flashcard;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.flashcard.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.flashcard.model.tag.Tag;
+import seedu.flashcard.model.tag.TagDictionary;
 
 /**
  * Represents a Flashcard in the flashcard list.
@@ -20,9 +24,17 @@ public abstract class Flashcard {
 
     // Data fields
     protected final Definition definition;
-    protected final Set<Tag> tags = new HashSet<>();
     protected final Answer answer;
-    protected final Score score;
+    // Immutable, and replaced when the flashcard is answered or reviewed. Volatile, as the storage may read them
+    // on a thread of its own.
+    private volatile Score score;
+    private volatile Schedule schedule;
+    // Ids from the TagDictionary, ascending. Replaced rather than modified, so copies may share it.
+    private int[] tagIds;
+    // Told of every change to the score. Not copied with the flashcard, and replaced rather than modified,
+    // so that notifying can go through the list while listeners come and go. Nearly every flashcard has
+    // at most one listener, which is held in a singleton list.
+    private List<ScoreChangeListener> scoreListeners = null;
 
     /**
      * This initializer is used when the user is creating a new flashcard
@@ -31,9 +43,10 @@ public abstract class Flashcard {
         requireAllNonNull(question, definitions, tags);
         this.question = question;
         this.definition = definitions;
-        this.tags.addAll(tags);
+        this.tagIds = TagDictionary.getIds(tags);
         this.answer = answer;
         this.score = new Score();
+        this.schedule = new Schedule();
     }
 
     /**
@@ -43,9 +56,10 @@ public abstract class Flashcard {
     public Flashcard(Flashcard toClone) {
         this.question = toClone.getQuestion();
         this.definition = toClone.getDefinition();
-        this.tags.addAll(toClone.getTags());
+        this.tagIds = toClone.tagIds;
         this.answer = toClone.getAnswer();
         this.score = toClone.getScore();
+        this.schedule = toClone.getSchedule();
     }
 
     /**
@@ -53,12 +67,22 @@ public abstract class Flashcard {
      * flashcard scores can be reloaded
      */
     public Flashcard(Question question, Definition definition, Set<Tag> tags, Answer answer, Score score) {
-        requireAllNonNull(question, definition, tags, answer, score);
+        this(question, definition, tags, answer, score, new Schedule());
+    }
+
+    /**
+     * This initializer should only be accessed by the storage package, because this initializer ensures the
+     * flashcard scores and review schedules can be reloaded
+     */
+    public Flashcard(Question question, Definition definition, Set<Tag> tags, Answer answer, Score score,
+                     Schedule schedule) {
+        requireAllNonNull(question, definition, tags, answer, score, schedule);
         this.question = question;
         this.definition = definition;
-        this.tags.addAll(tags);
+        this.tagIds = TagDictionary.getIds(tags);
         this.answer = answer;
         this.score = score;
+        this.schedule = schedule;
     }
 
     public Question getQuestion() {
@@ -89,27 +113,35 @@ public abstract class Flashcard {
         return score;
     }
 
+    /**
+     * Returns the review schedule of this flashcard.
+     * It is only replaced through the model, which keeps track of when each flashcard is due.
+     */
+    public Schedule getSchedule() {
+        return schedule;
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return new TagIdSet(tagIds);
     }
 
     /**
      * Returns true if this flashcard has the following tag.
      */
     public boolean hasTag(Tag tag) {
-        return getTags().contains(tag);
+        return TagIdSet.containsTag(tagIds, tag);
     }
 
     /**
      * Returns true if this flashcard has any one of the tags in the given tag sets.
      */
     public boolean hasAnyTag(Set<Tag> tags) {
-        for (Tag tag : tags) {
-            if (getTags().contains(tag)) {
+        for (int tagId : tagIds) {
+            if (tags.contains(TagDictionary.getTag(tagId))) {
                 return true;
             }
         }
@@ -120,7 +152,15 @@ public abstract class Flashcard {
      * Removes the tag from this flashcard.
      */
     public void removeTag(Tag tag) {
-        tags.remove(tag);
+        int id = TagDictionary.findId(tag);
+        int position = id == TagDictionary.NOT_FOUND ? -1 : Arrays.binarySearch(tagIds, id);
+        if (position < 0) {
+            return;
+        }
+        int[] remaining = new int[tagIds.length - 1];
+        System.arraycopy(tagIds, 0, remaining, 0, position);
+        System.arraycopy(tagIds, position + 1, remaining, position, remaining.length - position);
+        tagIds = remaining;
     }
 
     /**
@@ -140,17 +180,76 @@ public abstract class Flashcard {
      * @return Returns true if the answer is correct.
      */
     public boolean checkAnswer(Answer inputAnswer) {
-        if (inputAnswer.equals(answer)) {
-            score.incrementCorrectAnswer();
-            return true;
+        boolean isCorrect = inputAnswer.equals(answer);
+        setScore(isCorrect ? score.withCorrectAnswer() : score.withWrongAnswer());
+        return isCorrect;
+    }
+
+    /**
+     * Counts the flashcard as answered wrongly.
+     */
+    public void skipAnswer() {
+        setScore(score.withWrongAnswer());
+    }
+
+    /**
+     * Replaces the score of this flashcard with {@code newScore}, and tells the score listeners.
+     */
+    private void setScore(Score newScore) {
+        Score oldScore = score;
+        score = newScore;
+        notifyScoreListeners(oldScore.getCorrectAnswers(), oldScore.getWrongAnswers());
+    }
+
+    /**
+     * Reschedules this flashcard after it was answered at time {@code now} with the given quality, from 0 to 5.
+     */
+    void review(int quality, long now) {
+        schedule = schedule.review(quality, now);
+    }
+
+    /**
+     * Registers {@code listener} to be told of every change to the score of this flashcard.
+     */
+    public void addScoreListener(ScoreChangeListener listener) {
+        requireNonNull(listener);
+        if (scoreListeners == null) {
+            scoreListeners = Collections.singletonList(listener);
+            return;
+        }
+        List<ScoreChangeListener> updated = new ArrayList<>(scoreListeners);
+        updated.add(listener);
+        scoreListeners = updated;
+    }
+
+    /**
+     * Stops telling {@code listener} of changes to the score of this flashcard.
+     */
+    public void removeScoreListener(ScoreChangeListener listener) {
+        if (scoreListeners == null || !scoreListeners.contains(listener)) {
+            return;
+        }
+        List<ScoreChangeListener> updated = new ArrayList<>(scoreListeners);
+        updated.remove(listener);
+        if (updated.isEmpty()) {
+            scoreListeners = null;
+        } else if (updated.size() == 1) {
+            scoreListeners = Collections.singletonList(updated.get(0));
         } else {
-            score.incrementWrongAnswer();
-            return false;
+            scoreListeners = updated;
         }
     }
 
-    public void skipAnswer() {
-        score.incrementWrongAnswer();
+    /**
+     * Tells the score listeners that the score has changed from the given numbers of correct and wrong answers.
+     */
+    private void notifyScoreListeners(int oldCorrectAnswers, int oldWrongAnswers) {
+        if (scoreListeners == null) {
+            return;
+        }
+        for (ScoreChangeListener listener : scoreListeners) {
+            listener.changed(this, oldCorrectAnswers, oldWrongAnswers);
+        }
     }
 
     /**
@@ -187,8 +286,9 @@ public abstract class Flashcard {
         return otherFlashcard.getQuestion().equals(getQuestion())
                 && otherFlashcard.getDefinition().equals(getDefinition())
                 && otherFlashcard.getAnswer().equals(getAnswer())
-                && otherFlashcard.getTags().equals(getTags())
-                && otherFlashcard.getScore().equals(getScore());
+                && Arrays.equals(otherFlashcard.tagIds, tagIds)
+                && otherFlashcard.getScore().equals(getScore())
+                && otherFlashcard.getSchedule().equals(getSchedule());
     }
 
     @Override
@@ -197,7 +297,7 @@ public abstract class Flashcard {
         builder.append(getQuestion()).append("\n")
                 .append("\nDefinitions:").append("\n")
                 .append(getDefinition()).append("\n");
-        if (!tags.isEmpty()) {
+        if (tagIds.length > 0) {
             builder.append("\nTags:").append("\n");
             getTags().forEach(builder::append);
         }
@@ -206,6 +306,6 @@ public abstract class Flashcard {
 
     @Override
     public int hashCode() {
-        return Objects.hash(question, definition, tags);
+        return Objects.hash(question, definition, Arrays.hashCode(tagIds));
     }
 }
@@ -8,22 +8,83 @@ import seedu.flashcard.commons.util.StringUtil;
 /**
  * Tests that a {@code Flashcard}'s {@code Question}, {@code Definition}, {@code Answer}
  * matches any of the keywords given.
+ * A keyword ending in {@code PREFIX_MARKER} matches the words starting with the rest of it,
+ * and a keyword ending in {@code TYPO_MARKER} matches the words within a few typos of the rest of it.
+ * Any other keyword must match a whole word. Case is ignored throughout.
  */
 public class FlashcardContainsKeywordsPredicate implements Predicate<Flashcard> {
 
+    public static final char PREFIX_MARKER = '*';
+    public static final char TYPO_MARKER = '~';
+
     private final List<String> keywords;
     public FlashcardContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Flashcard flashcard) {
         return keywords.stream()
-                .anyMatch(keywords -> StringUtil.containsWordIgnoreCase(flashcard.getQuestion().question, keywords))
+                .anyMatch(keywords -> containsMatchingWord(flashcard.getQuestion().question, keywords))
             || keywords.stream()
-                .anyMatch(keywords -> StringUtil.containsWordIgnoreCase(flashcard.getDefinition().definition, keywords))
+                .anyMatch(keywords -> containsMatchingWord(flashcard.getDefinition().getDefinition(), keywords))
             || keywords.stream()
-                .anyMatch(keywords -> StringUtil.containsWordIgnoreCase(flashcard.getAnswer().answer, keywords));
+                .anyMatch(keywords -> containsMatchingWord(flashcard.getAnswer().answer, keywords));
+    }
+
+    /**
+     * Returns true if {@code sentence} contains a word matching {@code keyword}.
+     */
+    private static boolean containsMatchingWord(String sentence, String keyword) {
+        String trimmedKeyword = keyword.trim();
+        if (isPrefixKeyword(trimmedKeyword)) {
+            String prefix = StringUtil.foldCase(getStem(trimmedKeyword));
+            return StringUtil.getFoldedWords(sentence).stream().anyMatch(word -> word.startsWith(prefix));
+        }
+        if (isTypoTolerantKeyword(trimmedKeyword)) {
+            String stem = StringUtil.foldCase(getStem(trimmedKeyword));
+            return StringUtil.getFoldedWords(sentence).stream()
+                    .anyMatch(word -> StringUtil.isWithinEditDistance(word, stem, getTypoTolerance(stem)));
+        }
+        return StringUtil.containsWordIgnoreCase(sentence, keyword);
+    }
+
+    /**
+     * Returns true if the trimmed {@code keyword} matches words by prefix.
+     */
+    static boolean isPrefixKeyword(String keyword) {
+        return keyword.length() > 1 && keyword.charAt(keyword.length() - 1) == PREFIX_MARKER;
+    }
+
+    /**
+     * Returns true if the trimmed {@code keyword} matches words with a few typos.
+     */
+    static boolean isTypoTolerantKeyword(String keyword) {
+        return keyword.length() > 1 && keyword.charAt(keyword.length() - 1) == TYPO_MARKER;
+    }
+
+    /**
+     * Returns the trimmed {@code keyword} without its marker, if it has one.
+     */
+    static String getStem(String keyword) {
+        return isPrefixKeyword(keyword) || isTypoTolerantKeyword(keyword)
+                ? keyword.substring(0, keyword.length() - 1)
+                : keyword;
+    }
+
+    /**
+     * Returns the number of typos allowed in a word matched by a typo-tolerant keyword with the given stem.
+     * Short stems allow fewer typos, or else they would match nearly every short word.
+     */
+    static int getTypoTolerance(String stem) {
+        if (stem.length() <= 2) {
+            return 0;
+        }
+        return stem.length() <= 5 ? 1 : 2;
     }
 
     @Override
@@ -33,6 +33,16 @@ public class McqFlashcard extends Flashcard {
         this.choices.addAll(choices);
     }
 
+    /**
+     * This initializer should only be accessed by the storage package, because this initializer ensures the
+     * flashcard scores and review schedules can be reloaded
+     */
+    public McqFlashcard(Question question, List<Choice> choices, Definition definitions,
+                        Set<Tag> tags, Answer answer, Score score, Schedule schedule) {
+        super(question, definitions, tags, answer, score, schedule);
+        this.choices.addAll(choices);
+    }
+
     /**
      * Creates a deep copy of a given MCQ flashcard.
      * @param toClone the flashcard to be cloned
@@ -83,7 +93,7 @@ public class McqFlashcard extends Flashcard {
         builder.append(getQuestion()).append("\n")
                 .append("\nDefinitions:").append("\n")
                 .append(getDefinition()).append("\n");
-        if (!tags.isEmpty()) {
+        if (!getTags().isEmpty()) {
             builder.append("\nTags:").append("\n");
             getTags().forEach(builder::append);
         }
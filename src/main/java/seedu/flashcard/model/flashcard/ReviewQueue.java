@@ -0,0 +1,107 @@
+package seedu.flashcard.model.flashcard;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Keeps the flashcards in a list ordered by the time they are due for review, by following changes to the list.
+ * Flashcards can only be rescheduled through {@code review}, which moves the flashcard within the order.
+ * Both take time logarithmic in the size of the list, and the flashcards due at any time are found
+ * without going through those that are not.
+ */
+public class ReviewQueue {
+
+    private final NavigableSet<Entry> entries = new TreeSet<>();
+    private final Map<Flashcard, Entry> flashcardEntries = new IdentityHashMap<>();
+    private long nextSequenceNumber = 0;
+
+    public ReviewQueue(ObservableList<Flashcard> flashcards) {
+        flashcards.forEach(this::track);
+        flashcards.addListener(this::followChange);
+    }
+
+    /**
+     * Returns the flashcards in the list that are due at time {@code now}, the longest overdue first.
+     */
+    public List<Flashcard> getDueFlashcards(long now) {
+        List<Flashcard> dueFlashcards = new ArrayList<>();
+        for (Entry entry : entries.headSet(new Entry(null, now, Long.MAX_VALUE), true)) {
+            dueFlashcards.add(entry.flashcard);
+        }
+        return dueFlashcards;
+    }
+
+    /**
+     * Reschedules {@code flashcard} after it was answered at time {@code now} with the given quality,
+     * moving it to its new place in the order if it is in the list.
+     */
+    public void review(Flashcard flashcard, int quality, long now) {
+        boolean isTracked = flashcardEntries.containsKey(flashcard);
+        if (isTracked) {
+            untrack(flashcard);
+        }
+        flashcard.review(quality, now);
+        if (isTracked) {
+            track(flashcard);
+        }
+    }
+
+    /**
+     * Places or removes the flashcards that {@code change} put into or took out of the list.
+     * All removals are handled before any addition, as a flashcard that moved is reported as both.
+     */
+    private void followChange(ListChangeListener.Change<? extends Flashcard> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::untrack);
+        }
+        change.reset();
+        while (change.next()) {
+            change.getAddedSubList().forEach(this::track);
+        }
+    }
+
+    /**
+     * Places {@code flashcard} in the order by the time it is due.
+     */
+    private void track(Flashcard flashcard) {
+        Entry entry = new Entry(flashcard, flashcard.getSchedule().getDueTime(), nextSequenceNumber++);
+        entries.add(entry);
+        flashcardEntries.put(flashcard, entry);
+    }
+
+    /**
+     * Removes {@code flashcard} from the order.
+     */
+    private void untrack(Flashcard flashcard) {
+        entries.remove(flashcardEntries.remove(flashcard));
+    }
+
+    /**
+     * A flashcard with the time it was due when it was placed in the order.
+     * Flashcards due at the same time are ordered by when they were placed.
+     */
+    private static class Entry implements Comparable<Entry> {
+        private final Flashcard flashcard;
+        private final long dueTime;
+        private final long sequenceNumber;
+
+        Entry(Flashcard flashcard, long dueTime, long sequenceNumber) {
+            this.flashcard = flashcard;
+            this.dueTime = dueTime;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byDueTime = Long.compare(dueTime, other.dueTime);
+            return byDueTime != 0 ? byDueTime : Long.compare(sequenceNumber, other.sequenceNumber);
+        }
+    }
+}
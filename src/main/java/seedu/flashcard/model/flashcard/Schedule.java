@@ -0,0 +1,167 @@
+package seedu.flashcard.model.flashcard;
+
+import static seedu.flashcard.commons.util.AppUtil.checkArgument;
+
+/**
+ * Review schedule of each Flashcard, kept by the SM-2 spaced repetition algorithm.
+ * A flashcard answered well is due again after an interval that grows by its ease factor with every such answer
+ * in a row, while a flashcard answered badly is due again the next day and becomes a little less easy.
+ * Schedules are immutable; reviewing a flashcard gives it a new one.
+ */
+public class Schedule {
+
+    public static final String MESSAGE_CONSTRAINTS =
+        "The schedule must be four numbers: the number of good answers in a row and the interval in days, "
+            + "both non-negative, the ease factor, at least " + Schedule.MIN_EASE + ", "
+            + "and the time the flashcard is due, in milliseconds since the epoch";
+
+    /** Quality of an answer, from 0 to 5, given to a correct answer. */
+    public static final int QUALITY_CORRECT = 4;
+    /** Quality of an answer, from 0 to 5, given to a wrong answer. */
+    public static final int QUALITY_WRONG = 1;
+    /** Quality of an answer, from 0 to 5, given to a skipped flashcard. */
+    public static final int QUALITY_SKIPPED = 0;
+
+    public static final double MIN_EASE = 1.3;
+    public static final double DEFAULT_EASE = 2.5;
+    public static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    private static final int MIN_PASSING_QUALITY = 3;
+    private static final int MAX_QUALITY = 5;
+    private static final int FIRST_INTERVAL = 1;
+    private static final int SECOND_INTERVAL = 6;
+
+    private final int repetitions;
+    private final int interval;
+    private final double ease;
+    private final long dueTime;
+
+    /**
+     * Used when the user is creating a new flashcard, which is due straight away.
+     */
+    public Schedule() {
+        this(0, 0, DEFAULT_EASE, 0);
+    }
+
+    /**
+     * Used when loading schedule from Json file.
+     */
+    public Schedule(int repetitions, int interval, double ease, long dueTime) {
+        checkArgument(isValidSchedule(repetitions, interval, ease), MESSAGE_CONSTRAINTS);
+        this.repetitions = repetitions;
+        this.interval = interval;
+        this.ease = ease;
+        this.dueTime = dueTime;
+    }
+
+    /**
+     * Used to check in the storage class to ensure the schedules loaded are valid.
+     */
+    public static boolean isValidSchedule(String schedule) {
+        String[] splitSchedule = schedule.split(" ");
+        if (splitSchedule.length != 4) {
+            return false;
+        }
+        try {
+            Long.parseLong(splitSchedule[3]);
+            return isValidSchedule(Integer.parseInt(splitSchedule[0]), Integer.parseInt(splitSchedule[1]),
+                Double.parseDouble(splitSchedule[2]));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Used to check for numeric values.
+     */
+    public static boolean isValidSchedule(int repetitions, int interval, double ease) {
+        return repetitions >= 0 && interval >= 0 && ease >= MIN_EASE && !Double.isInfinite(ease);
+    }
+
+    /**
+     * Returns the number of times in a row the flashcard has been answered well.
+     */
+    public int getRepetitions() {
+        return repetitions;
+    }
+
+    /**
+     * Returns the number of days between the last review of the flashcard and the time it is due.
+     */
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Returns the factor by which the interval grows when the flashcard is answered well.
+     */
+    public double getEase() {
+        return ease;
+    }
+
+    /**
+     * Returns the time the flashcard is due, in milliseconds since the epoch.
+     */
+    public long getDueTime() {
+        return dueTime;
+    }
+
+    /**
+     * Returns true if the flashcard is due at time {@code now}.
+     */
+    public boolean isDue(long now) {
+        return dueTime <= now;
+    }
+
+    /**
+     * Returns the schedule of the flashcard after it was answered at time {@code now} with the given quality,
+     * from 0 to 5.
+     * Only {@code ReviewQueue} reschedules flashcards, so that it can keep them ordered by the time they are due.
+     */
+    Schedule review(int quality, long now) {
+        checkArgument(quality >= 0 && quality <= MAX_QUALITY);
+        int newRepetitions;
+        int newInterval;
+        if (quality >= MIN_PASSING_QUALITY) {
+            if (repetitions == 0) {
+                newInterval = FIRST_INTERVAL;
+            } else if (repetitions == 1) {
+                newInterval = SECOND_INTERVAL;
+            } else {
+                newInterval = (int) Math.min(Integer.MAX_VALUE, Math.round(interval * ease));
+            }
+            newRepetitions = repetitions + 1;
+        } else {
+            newRepetitions = 0;
+            newInterval = FIRST_INTERVAL;
+        }
+        int shortfall = MAX_QUALITY - quality;
+        double newEase = Math.max(MIN_EASE, ease + 0.1 - shortfall * (0.08 + shortfall * 0.02));
+        return new Schedule(newRepetitions, newInterval, newEase, now + newInterval * DAY_MILLIS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Schedule)) {
+            return false;
+        }
+        Schedule otherSchedule = (Schedule) other;
+        return repetitions == otherSchedule.repetitions
+                && interval == otherSchedule.interval
+                && ease == otherSchedule.ease
+                && dueTime == otherSchedule.dueTime;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(dueTime);
+    }
+
+    @Override
+    public String toString() {
+        return repetitions + " " + interval + " " + ease + " " + dueTime;
+    }
+}
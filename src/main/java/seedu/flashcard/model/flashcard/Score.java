@@ -4,14 +4,15 @@ import static seedu.flashcard.commons.util.AppUtil.checkArgument;
 
 /**
  * Score of each Flashcard
+ * Scores are immutable; answering a flashcard gives it a new one and tells its {@code ScoreChangeListener}s.
  */
 public class Score {
 
     public static final String MESSAGE_CONSTRAINTS =
         "The two numbers for the score, correct answers and wrong answers, must both be non-negative";
 
-    private int correctAnswers;
-    private int wrongAnswers;
+    private final int correctAnswers;
+    private final int wrongAnswers;
 
     /**
      * Used when the user is creating a new flashcard.
@@ -75,17 +76,17 @@ public class Score {
     }
 
     /**
-     * Adds one to the number of times the flashcard has been correctly answered.
+     * Returns this score with one more correct answer.
      */
-    public void incrementCorrectAnswer() {
-        this.correctAnswers++;
+    Score withCorrectAnswer() {
+        return new Score(correctAnswers + 1, wrongAnswers);
     }
 
     /**
-     * Adds one to the number of times the flashcard has been wrongly answered.
+     * Returns this score with one more wrong answer.
      */
-    public void incrementWrongAnswer() {
-        this.wrongAnswers++;
+    Score withWrongAnswer() {
+        return new Score(correctAnswers, wrongAnswers + 1);
     }
 
     @Override
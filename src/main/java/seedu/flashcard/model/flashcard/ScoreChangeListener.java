@@ -0,0 +1,15 @@
+package seedu.flashcard.model.flashcard;
+
+/**
+ * Listens for changes to the {@code Score} of a flashcard.
+ */
+@FunctionalInterface
+public interface ScoreChangeListener {
+
+    /**
+     * Called after the score of {@code flashcard} has changed.
+     * @param oldCorrectAnswers the number of correct answers before the change.
+     * @param oldWrongAnswers the number of wrong answers before the change.
+     */
+    void changed(Flashcard flashcard, int oldCorrectAnswers, int oldWrongAnswers);
+}
@@ -32,6 +32,15 @@ public class ShortAnswerFlashcard extends Flashcard {
         super(question, definition, tags, answer, score);
     }
 
+    /**
+     * This initializer should only be accessed by the storage package, because this initializer ensures the
+     * flashcard scores and review schedules can be reloaded
+     */
+    public ShortAnswerFlashcard(Question question, Definition definition, Set<Tag> tags, Answer answer, Score score,
+                                Schedule schedule) {
+        super(question, definition, tags, answer, score, schedule);
+    }
+
     @Override
     public boolean isValidFlashcard() {
         return true;
@@ -0,0 +1,87 @@
+package seedu.flashcard.model.flashcard;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import seedu.flashcard.model.tag.Tag;
+import seedu.flashcard.model.tag.TagDictionary;
+
+/**
+ * Read-only view of an ascending array of tag ids as a set of tags.
+ * Every attempt to modify it throws {@code UnsupportedOperationException}.
+ */
+class TagIdSet extends AbstractSet<Tag> {
+
+    private final int[] tagIds;
+
+    TagIdSet(int[] tagIds) {
+        this.tagIds = tagIds;
+    }
+
+    /**
+     * Returns true if the ascending array {@code tagIds} holds the id of {@code tag}.
+     */
+    static boolean containsTag(int[] tagIds, Tag tag) {
+        int id = TagDictionary.findId(tag);
+        return id != TagDictionary.NOT_FOUND && Arrays.binarySearch(tagIds, id) >= 0;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Tag && containsTag(tagIds, (Tag) other);
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tagIds.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return TagDictionary.getTag(tagIds[next++]);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return tagIds.length;
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
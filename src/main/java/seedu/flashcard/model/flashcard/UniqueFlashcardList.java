@@ -3,13 +3,19 @@ package seedu.flashcard.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static seedu.flashcard.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.flashcard.commons.util.StringUtil;
 import seedu.flashcard.model.flashcard.exceptions.CardNotFoundException;
 import seedu.flashcard.model.flashcard.exceptions.DuplicateCardException;
 import seedu.flashcard.model.tag.Tag;
@@ -24,23 +30,37 @@ import seedu.flashcard.model.tag.Tag;
  * However, the removal of a flashcard uses Flashcard#equals(Object) so
  * as to ensure that the flashcard with exactly the same fields will be removed.
  *
+ * Identity checks, tag queries and keyword searches are answered by an index from each {@code Question}
+ * to the flashcard holding it, and inverted indexes from each {@code Tag} to the flashcards carrying it
+ * and from each case-folded word to the flashcards whose question, definition or answer contain it.
+ * The words themselves are kept in a {@code Vocabulary} so that keywords can also match by prefix or approximately.
+ * All are kept in step with the backing list by every mutator. The word index holds far more entries than the others,
+ * so it is appended to cheaply and cleaned lazily: entries for removed flashcards are skipped when searching
+ * and dropped once as many flashcards have been removed as remain in the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Flashcard#isSameFlashcard(Flashcard)
  */
 public class UniqueFlashcardList implements Iterable<Flashcard> {
 
-    private final ObservableList<Flashcard> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Flashcard> internalList = new BatchObservableList<>();
     private final ObservableList<Flashcard> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
-
+    private final Map<Question, Flashcard> questionIndex = new HashMap<>();
+    // Positions in the backing list, remembered as they are looked up, and possibly out of date
+    private final Map<Question, Integer> positionIndex = new HashMap<>();
+    private final Map<Tag, Set<Flashcard>> tagIndex = new HashMap<>();
+    private final Map<String, List<Flashcard>> wordIndex = new HashMap<>();
+    private final Vocabulary vocabulary = new Vocabulary();
+    private int removedSinceWordIndexCompacted = 0;
 
     /**
      * Returns true if the list contains an equivalent flashcard as the given argument
      */
     public boolean contains(Flashcard toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameFlashcard);
+        return questionIndex.containsKey(toCheck.getQuestion());
     }
 
     /**
@@ -53,6 +73,7 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
             throw new DuplicateCardException();
         }
         internalList.add(toAdd);
+        index(toAdd);
     }
 
     /**
@@ -62,14 +83,18 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      */
     public void setFlashcard(Flashcard target, Flashcard editedFlashcard) {
         requireAllNonNull(target, editedFlashcard);
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Flashcard existing = questionIndex.get(target.getQuestion());
+        if (existing == null || !existing.equals(target)) {
             throw new CardNotFoundException();
         }
         if (!target.isSameFlashcard(editedFlashcard) && contains(editedFlashcard)) {
             throw new DuplicateCardException();
         }
-        internalList.set(index, editedFlashcard);
+        int position = positionOf(existing);
+        internalList.set(position, editedFlashcard);
+        unindex(existing);
+        index(editedFlashcard);
+        positionIndex.put(editedFlashcard.getQuestion(), position);
     }
 
     /**
@@ -78,14 +103,34 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      */
     public void remove(Flashcard toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Flashcard existing = questionIndex.get(toRemove.getQuestion());
+        if (existing == null || !existing.equals(toRemove)) {
             throw new CardNotFoundException();
         }
+        internalList.remove(indexOfInstance(existing));
+        unindex(existing);
     }
 
+    /**
+     * Replaces the contents of this list with {@code replacement}.
+     * The replacement already guarantees uniqueness, so its indexes are copied instead of rebuilt.
+     */
     public void setFlashcards(UniqueFlashcardList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        questionIndex.clear();
+        questionIndex.putAll(replacement.questionIndex);
+        positionIndex.clear();
+        tagIndex.clear();
+        replacement.tagIndex.forEach((tag, flashcards) -> {
+            Set<Flashcard> copy = newFlashcardSet();
+            copy.addAll(flashcards);
+            tagIndex.put(tag, copy);
+        });
+        wordIndex.clear();
+        replacement.wordIndex.forEach((word, flashcards) -> wordIndex.put(word, new ArrayList<>(flashcards)));
+        vocabulary.setWords(replacement.vocabulary);
+        removedSinceWordIndexCompacted = replacement.removedSinceWordIndexCompacted;
     }
 
     /**
@@ -99,6 +144,58 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
             throw new DuplicateCardException();
         }
         internalList.setAll(flashcards);
+        reindex();
+    }
+
+    /**
+     * Replaces the flashcards at positions [{@code from}, {@code to}) with {@code replacement},
+     * leaving the rest of the list untouched so that observers only see the affected range change.
+     * The resulting list must not contain duplicate flashcards, otherwise DuplicateCardException will be thrown
+     * and the list is left unchanged.
+     */
+    public void replaceRange(int from, int to, List<Flashcard> replacement) {
+        requireNonNull(replacement);
+        if (from < 0 || to > internalList.size() || from > to) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + "), Size: " + internalList.size());
+        }
+        List<Flashcard> replaced = new ArrayList<>(internalList.subList(from, to));
+        replaced.forEach(this::unindex);
+        if (!flashcardsAreUnique(replacement)
+                || replacement.stream().anyMatch(flashcard -> questionIndex.containsKey(flashcard.getQuestion()))) {
+            replaced.forEach(this::index);
+            throw new DuplicateCardException();
+        }
+        if (replaced.size() == replacement.size()) {
+            for (int i = 0; i < replacement.size(); i++) {
+                internalList.set(from + i, replacement.get(i));
+            }
+        } else {
+            internalList.remove(from, to);
+            internalList.addAll(from, replacement);
+        }
+        replacement.forEach(this::index);
+    }
+
+    /**
+     * Tells listeners of the list that the score or schedule of {@code flashcard} has changed,
+     * as an update of its position. Nothing is reported if it is not in the list.
+     */
+    public void indicateReviewed(Flashcard flashcard) {
+        requireNonNull(flashcard);
+        if (isInList(flashcard)) {
+            internalList.indicateUpdated(positionOf(flashcard));
+        }
+    }
+
+    /**
+     * Runs {@code modifications} against this list as one transaction.
+     * Listeners are told about all of the modifications in a single change once they have finished.
+     * If {@code modifications} throws, the list and its indexes are rolled back to how they were
+     * before listeners are told of the change and the exception is rethrown.
+     */
+    public void batch(Runnable modifications) {
+        requireNonNull(modifications);
+        internalList.batch(modifications, this::reindex);
     }
 
     /**
@@ -112,44 +209,192 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      * Returns all tags appeared in the system.
      */
     public Set<Tag> getAllTags() {
-        Set<Tag> allTags = new HashSet<Tag>();
-        for (Flashcard flashcard : internalList) {
-            allTags.addAll(flashcard.getTags());
-        }
-        return allTags;
+        return new HashSet<>(tagIndex.keySet());
     }
 
     /**
      * Returns true if the given tag has ever appeared in the flashcard list.
      */
     public boolean anyFlashcardHasTag(Tag tag) {
-        for (Flashcard flashcard : internalList) {
-            if (flashcard.hasTag(tag)) {
-                return true;
+        return tagIndex.containsKey(tag);
+    }
+
+    /**
+     * Returns the flashcards in the list carrying any of the given tags.
+     * Membership of the returned set is by identity, and the set does not follow later changes to the list.
+     */
+    public Set<Flashcard> getFlashcardsWithAnyTag(Set<Tag> tags) {
+        requireNonNull(tags);
+        Set<Flashcard> tagged = newFlashcardSet();
+        for (Tag tag : tags) {
+            tagged.addAll(tagIndex.getOrDefault(tag, Collections.emptySet()));
+        }
+        return tagged;
+    }
+
+    /**
+     * Returns the flashcards in the list whose question, definition or answer contains a word matching any of
+     * the given keywords, ignoring case, as {@link FlashcardContainsKeywordsPredicate} matches them:
+     * as a whole word, or by prefix or approximately for keywords ending in the respective marker.
+     * Membership of the returned set is by identity, and the set does not follow later changes to the list.
+     */
+    public Set<Flashcard> getFlashcardsContainingAnyWord(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<Flashcard> matching = newFlashcardSet();
+        for (String keyword : keywords) {
+            String trimmedKeyword = keyword.trim();
+            String stem = StringUtil.foldCase(FlashcardContainsKeywordsPredicate.getStem(trimmedKeyword));
+            if (FlashcardContainsKeywordsPredicate.isPrefixKeyword(trimmedKeyword)) {
+                vocabulary.getWordsWithPrefix(stem).forEach(word -> addFlashcardsContaining(word, matching));
+            } else if (FlashcardContainsKeywordsPredicate.isTypoTolerantKeyword(trimmedKeyword)) {
+                vocabulary.getSimilarWords(stem, FlashcardContainsKeywordsPredicate.getTypoTolerance(stem))
+                        .forEach(word -> addFlashcardsContaining(word, matching));
+            } else {
+                addFlashcardsContaining(stem, matching);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Adds the flashcards in the list containing the case-folded {@code word} to {@code matching}.
+     */
+    private void addFlashcardsContaining(String word, Set<Flashcard> matching) {
+        for (Flashcard flashcard : wordIndex.getOrDefault(word, Collections.emptyList())) {
+            if (isInList(flashcard)) {
+                matching.add(flashcard);
             }
         }
-        return false;
     }
 
     /**
-     * Remove the given tag from all the flashcard in the system
-     * @param tag
+     * Rebuilds the question, tag and word indexes from the backing list.
      */
-    public void removeTag(Tag tag) {
+    private void reindex() {
+        questionIndex.clear();
+        positionIndex.clear();
+        tagIndex.clear();
+        wordIndex.clear();
+        vocabulary.clear();
+        removedSinceWordIndexCompacted = 0;
+        internalList.forEach(this::index);
+    }
+
+    /**
+     * Records {@code flashcard}, which has just been put into the backing list, in the indexes.
+     */
+    private void index(Flashcard flashcard) {
+        questionIndex.put(flashcard.getQuestion(), flashcard);
+        for (Tag tag : flashcard.getTags()) {
+            tagIndex.computeIfAbsent(tag, unused -> newFlashcardSet()).add(flashcard);
+        }
+        StringUtil.forEachFoldedWord(flashcard.getQuestion().question, word -> indexWord(word, flashcard));
+        StringUtil.forEachFoldedWord(flashcard.getDefinition().getDefinition(), word -> indexWord(word, flashcard));
+        StringUtil.forEachFoldedWord(flashcard.getAnswer().answer, word -> indexWord(word, flashcard));
+    }
+
+    /**
+     * Records that {@code flashcard} contains {@code word}, unless that has just been recorded.
+     */
+    private void indexWord(String word, Flashcard flashcard) {
+        List<Flashcard> flashcards = wordIndex.get(word);
+        if (flashcards == null) {
+            flashcards = new ArrayList<>();
+            wordIndex.put(word, flashcards);
+            vocabulary.add(word);
+        }
+        if (flashcards.isEmpty() || flashcards.get(flashcards.size() - 1) != flashcard) {
+            flashcards.add(flashcard);
+        }
+    }
+
+    /**
+     * Drops {@code flashcard}, which has just been taken out of the backing list, from the indexes.
+     * Its entries in the word index are left for {@link #compactWordIndex()} to clean up.
+     */
+    private void unindex(Flashcard flashcard) {
+        questionIndex.remove(flashcard.getQuestion());
+        positionIndex.remove(flashcard.getQuestion());
+        for (Tag tag : flashcard.getTags()) {
+            Set<Flashcard> tagged = tagIndex.get(tag);
+            tagged.remove(flashcard);
+            if (tagged.isEmpty()) {
+                tagIndex.remove(tag);
+            }
+        }
+        removedSinceWordIndexCompacted++;
+        if (removedSinceWordIndexCompacted > questionIndex.size()) {
+            compactWordIndex();
+        }
+    }
+
+    /**
+     * Returns the position in the backing list of {@code flashcard}.
+     * The position remembered for it is checked against the list, and once flashcards before it have been added
+     * or removed, the positions of all the flashcards are looked up again.
+     * Throws CardNotFoundException if no flashcard in the list has the question of {@code flashcard}.
+     */
+    public int positionOf(Flashcard flashcard) {
+        Integer position = positionIndex.get(flashcard.getQuestion());
+        if (position == null || position >= internalList.size() || internalList.get(position) != flashcard) {
+            positionIndex.clear();
+            for (int i = 0; i < internalList.size(); i++) {
+                positionIndex.put(internalList.get(i).getQuestion(), i);
+            }
+            position = positionIndex.get(flashcard.getQuestion());
+            if (position == null) {
+                throw new CardNotFoundException();
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position in the backing list of {@code flashcard}, which must be in the list,
+     * comparing flashcards by identity rather than by {@code equals}, which would read their definitions.
+     * Removals shift the flashcards after them anyway, so they do not go through the remembered positions.
+     */
+    private int indexOfInstance(Flashcard flashcard) {
         for (int i = 0; i < internalList.size(); i++) {
-            Flashcard flashcard = internalList.get(i);
-            Flashcard edited;
-            if (flashcard.isMcq()) {
-                edited = new McqFlashcard((McqFlashcard) flashcard);
-            } else {
-                edited = new ShortAnswerFlashcard((ShortAnswerFlashcard) flashcard);
+            if (internalList.get(i) == flashcard) {
+                return i;
             }
-            if (edited.hasTag(tag)) {
-                internalList.remove(i);
-                edited.removeTag(tag);
-                internalList.add(i, edited);
+        }
+        throw new CardNotFoundException();
+    }
+
+    /**
+     * Returns true if {@code flashcard} is the very flashcard the list holds for its question.
+     */
+    private boolean isInList(Flashcard flashcard) {
+        return questionIndex.get(flashcard.getQuestion()) == flashcard;
+    }
+
+    /**
+     * Drops the word index entries of flashcards that are no longer in the list,
+     * and repeated entries of flashcards that were removed and put back.
+     */
+    private void compactWordIndex() {
+        Iterator<Map.Entry<String, List<Flashcard>>> postings = wordIndex.entrySet().iterator();
+        while (postings.hasNext()) {
+            Map.Entry<String, List<Flashcard>> posting = postings.next();
+            List<Flashcard> flashcards = posting.getValue();
+            Set<Flashcard> seen = newFlashcardSet();
+            flashcards.removeIf(flashcard -> !isInList(flashcard) || !seen.add(flashcard));
+            if (flashcards.isEmpty()) {
+                postings.remove();
+                vocabulary.remove(posting.getKey());
             }
         }
+        removedSinceWordIndexCompacted = 0;
+    }
+
+    /**
+     * Flashcards are mutable and their {@code hashCode} covers their tags,
+     * so the tag index tracks the exact instances held in the backing list.
+     */
+    private static Set<Flashcard> newFlashcardSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
     }
 
     @Override
@@ -173,11 +418,10 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      * Returns true of {@code flashcards} contains only unique flashcards.
      */
     private boolean flashcardsAreUnique(List<Flashcard> flashcards) {
-        for (int i = 0; i < flashcards.size() - 1; i++) {
-            for (int j = i + 1; j < flashcards.size(); j++) {
-                if (flashcards.get(i).isSameFlashcard(flashcards.get(j))) {
-                    return false;
-                }
+        Set<Question> seenQuestions = new HashSet<>();
+        for (Flashcard flashcard : flashcards) {
+            if (!seenQuestions.add(flashcard.getQuestion())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,147 @@
+package seedu.flashcard.model.flashcard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import seedu.flashcard.commons.util.StringUtil;
+
+/**
+ * The distinct words of a body of text, arranged for searching by prefix and by approximate spelling.
+ * Words are kept sorted, so the words starting with a prefix are adjacent,
+ * and each word is filed under its trigrams: the three-character substrings of the word padded with
+ * {@code GRAM_PADDING} on both sides. A word within {@code k} edits of another shares all but at most
+ * {@code 3k} of its distinct trigrams, so only words sharing enough trigrams with the query are compared in full.
+ * Removed words are left in the trigram index, skipped when searching and dropped once as many words have been
+ * removed as remain.
+ */
+class Vocabulary {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final char GRAM_PADDING = '\u0000';
+    private static final String PAD = String.valueOf(GRAM_PADDING).repeat(GRAM_LENGTH - 1);
+
+    private final NavigableSet<String> words = new TreeSet<>();
+    private final Map<String, List<String>> gramIndex = new HashMap<>();
+    private int removedSinceGramIndexCompacted = 0;
+
+    /**
+     * Adds {@code word} to the vocabulary.
+     */
+    void add(String word) {
+        if (words.add(word)) {
+            forEachGram(word, gram -> gramIndex.computeIfAbsent(gram, unused -> new ArrayList<>()).add(word));
+        }
+    }
+
+    /**
+     * Removes {@code word} from the vocabulary.
+     */
+    void remove(String word) {
+        if (words.remove(word)) {
+            removedSinceGramIndexCompacted++;
+            if (removedSinceGramIndexCompacted > words.size()) {
+                compactGramIndex();
+            }
+        }
+    }
+
+    /**
+     * Replaces the words of this vocabulary with those of {@code other}, copying its trigram index.
+     */
+    void setWords(Vocabulary other) {
+        words.clear();
+        words.addAll(other.words);
+        gramIndex.clear();
+        other.gramIndex.forEach((gram, gramWords) -> gramIndex.put(gram, new ArrayList<>(gramWords)));
+        removedSinceGramIndexCompacted = other.removedSinceGramIndexCompacted;
+    }
+
+    /**
+     * Removes all words from the vocabulary.
+     */
+    void clear() {
+        words.clear();
+        gramIndex.clear();
+        removedSinceGramIndexCompacted = 0;
+    }
+
+    /**
+     * Returns the words of the vocabulary that start with {@code prefix}, in order.
+     */
+    List<String> getWordsWithPrefix(String prefix) {
+        List<String> matching = new ArrayList<>();
+        for (String word : words.tailSet(prefix, true)) {
+            if (!word.startsWith(prefix)) {
+                break;
+            }
+            matching.add(word);
+        }
+        return matching;
+    }
+
+    /**
+     * Returns the words of the vocabulary that can be turned into {@code query}
+     * by at most {@code maxDistance} insertions, deletions or substitutions of a character.
+     */
+    List<String> getSimilarWords(String query, int maxDistance) {
+        List<String> queryGrams = new ArrayList<>();
+        forEachGram(query, gram -> {
+            if (!queryGrams.contains(gram)) {
+                queryGrams.add(gram);
+            }
+        });
+        int minSharedGrams = queryGrams.size() - GRAM_LENGTH * maxDistance;
+        List<String> similar = new ArrayList<>();
+        if (minSharedGrams <= 0) {
+            // Too few trigrams to rule any word out
+            for (String word : words) {
+                if (StringUtil.isWithinEditDistance(word, query, maxDistance)) {
+                    similar.add(word);
+                }
+            }
+            return similar;
+        }
+
+        Map<String, Integer> sharedGramCounts = new HashMap<>();
+        for (String gram : queryGrams) {
+            for (String word : gramIndex.getOrDefault(gram, List.of())) {
+                if (Math.abs(word.length() - query.length()) <= maxDistance) {
+                    sharedGramCounts.merge(word, 1, Integer::sum);
+                }
+            }
+        }
+        sharedGramCounts.forEach((word, sharedGrams) -> {
+            if (sharedGrams >= minSharedGrams && words.contains(word)
+                    && StringUtil.isWithinEditDistance(word, query, maxDistance)) {
+                similar.add(word);
+            }
+        });
+        return similar;
+    }
+
+    /**
+     * Passes each trigram of {@code word} on to {@code action}.
+     */
+    private static void forEachGram(String word, Consumer<String> action) {
+        String padded = PAD + word + PAD;
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            action.accept(padded.substring(i, i + GRAM_LENGTH));
+        }
+    }
+
+    /**
+     * Rebuilds the trigram index from the words still in the vocabulary.
+     */
+    private void compactGramIndex() {
+        gramIndex.clear();
+        removedSinceGramIndexCompacted = 0;
+        for (String word : words) {
+            forEachGram(word, gram -> gramIndex.computeIfAbsent(gram, unused -> new ArrayList<>()).add(word));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.flashcard.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Numbers every tag ever used with a small id, counting up from 0, so that flashcards can hold their tags
+ * as arrays of ids and share one {@code Tag} object for each tag name.
+ * Ids are never reused, so the dictionary only grows; there are few distinct tags, however many flashcards there are.
+ * Looking up a tag takes no lock, and tags may be added from several threads at once.
+ */
+public final class TagDictionary {
+
+    public static final int NOT_FOUND = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private static volatile Tag[] tags = new Tag[INITIAL_CAPACITY];
+    private static int size = 0;
+
+    private TagDictionary() {}
+
+    /**
+     * Returns the id of {@code tag}, giving it the next id if it has none yet.
+     */
+    public static int getId(Tag tag) {
+        requireNonNull(tag);
+        Integer id = ids.get(tag.tagName);
+        return id != null ? id : addTag(tag);
+    }
+
+    /**
+     * Returns the id of {@code tag}, or {@code NOT_FOUND} if no flashcard has ever carried it.
+     */
+    public static int findId(Tag tag) {
+        Integer id = ids.get(tag.tagName);
+        return id != null ? id : NOT_FOUND;
+    }
+
+    /**
+     * Returns the tag with the given id.
+     */
+    public static Tag getTag(int id) {
+        return tags[id];
+    }
+
+    /**
+     * Returns the ids of {@code tagsToNumber} in ascending order, giving ids to tags that have none yet.
+     */
+    public static int[] getIds(Collection<Tag> tagsToNumber) {
+        int[] tagIds = new int[tagsToNumber.size()];
+        int count = 0;
+        for (Tag tag : tagsToNumber) {
+            tagIds[count++] = getId(tag);
+        }
+        Arrays.sort(tagIds);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || tagIds[distinct - 1] != tagIds[i]) {
+                tagIds[distinct++] = tagIds[i];
+            }
+        }
+        return distinct == count ? tagIds : Arrays.copyOf(tagIds, distinct);
+    }
+
+    /**
+     * Gives {@code tag} the next id, unless another thread has just given it one.
+     * The tag is stored before its id is published, so any thread that finds the id can also find the tag.
+     */
+    private static synchronized int addTag(Tag tag) {
+        Integer existing = ids.get(tag.tagName);
+        if (existing != null) {
+            return existing;
+        }
+        Tag[] current = tags;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, size * 2);
+        }
+        current[size] = tag;
+        tags = current;
+        ids.put(tag.tagName, size);
+        return size++;
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.flashcard.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.flashcard.commons.core.LogsCenter;
+import seedu.flashcard.commons.exceptions.DataConversionException;
+import seedu.flashcard.commons.exceptions.IllegalValueException;
+import seedu.flashcard.commons.util.FileUtil;
+import seedu.flashcard.model.FlashcardList;
+import seedu.flashcard.model.ReadOnlyFlashcardList;
+import seedu.flashcard.model.flashcard.DefinitionSegment;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.tag.Tag;
+
+/**
+ * A class to access FlashcardList data stored in a compact binary file on the hard disk.
+ * The file holds, in order:
+ * <ul>
+ *     <li>the bytes {@code FMDK} and a byte giving the version of the format,</li>
+ *     <li>the number of distinct tags, followed by their names,</li>
+ *     <li>the number of flashcards, followed by the flashcards,</li>
+ *     <li>the CRC32 checksum of all the bytes before it, in four bytes.</li>
+ * </ul>
+ * Each flashcard is a byte giving its type, its question, definition and answer, its choices if it is an MCQ,
+ * the numbers of its tags in the list of tags, the correct and wrong answers of its score, and its schedule.
+ * Numbers and lengths are written in as few bytes as they need, and strings as their length then their UTF-8 bytes.
+ * Files are written as {@link FileUtil#writeToFileAtomically} does, and read from their backup if damaged.
+ */
+public class BinaryFlashcardListStorage implements FlashcardStorage {
+
+    static final int MAGIC = 0x464D444B;
+    static final byte VERSION = 1;
+
+    private static final int HEADER_LENGTH = 5;
+    private static final int CHECKSUM_LENGTH = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryFlashcardListStorage.class);
+
+    private final Path filePath;
+    private final DefinitionSegment definitionSegment;
+    private Path lastReadFilePath = null;
+
+    public BinaryFlashcardListStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage whose loaded flashcards keep their definitions in {@code definitionSegment},
+     * or in memory if it is null.
+     */
+    public BinaryFlashcardListStorage(Path filePath, DefinitionSegment definitionSegment) {
+        this.filePath = filePath;
+        this.definitionSegment = definitionSegment;
+    }
+
+    @Override
+    public Path getFlashcardListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Path getLastReadFilePath() {
+        return lastReadFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashcardList> readFlashcardList() throws DataConversionException {
+        return readFlashcardList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readFlashcardList()}.
+     * If the file is missing or damaged, the previous version of it kept as its backup by the last save is read.
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyFlashcardList> readFlashcardList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return FileUtil.readWithBackup(filePath, this::readSharingValues);
+    }
+
+    /**
+     * Reads the flashcards in the file at {@code filePath}, sharing their values and keeping their definitions
+     * in the definition segment if there is one.
+     */
+    private ReadOnlyFlashcardList readSharingValues(Path filePath) throws DataConversionException {
+        try {
+            // Read onto the heap rather than mapped, as a mapping holds the file open until it is collected,
+            // and some platforms then refuse to replace the file at the next save
+            ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(filePath));
+            checkChecksum(file);
+            ValuePool pool = new ValuePool(definitionSegment);
+            FlashcardList flashcardList;
+            try {
+                flashcardList = readFlashcards(file, pool);
+            } catch (UncheckedIOException e) {
+                logger.warning("Could not keep definitions on disk, keeping them in memory instead: "
+                    + e.getMessage());
+                pool = new ValuePool();
+                flashcardList = readFlashcards(file.rewind(), pool);
+            }
+            logger.info("Shared repeated values in " + filePath + ", saving about " + pool.getBytesSaved() + " bytes");
+            lastReadFilePath = filePath;
+            return flashcardList;
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException | BufferUnderflowException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Checks that {@code file} starts with the header of this format and ends with the checksum of its contents.
+     */
+    private static void checkChecksum(ByteBuffer file) throws IllegalValueException {
+        if (file.limit() < HEADER_LENGTH + CHECKSUM_LENGTH || file.getInt(0) != MAGIC) {
+            throw new IllegalValueException("Issue in saved file, it is not a binary flashcard list.");
+        }
+        if (file.get(4) != VERSION) {
+            throw new IllegalValueException("Issue in saved file, format version " + file.get(4)
+                + " is not supported.");
+        }
+        int contentLength = file.limit() - CHECKSUM_LENGTH;
+        CRC32 crc = new CRC32();
+        crc.update(file.duplicate().limit(contentLength));
+        if ((int) crc.getValue() != file.getInt(contentLength)) {
+            throw new IllegalValueException("Issue in saved file, it does not match its checksum.");
+        }
+    }
+
+    /**
+     * Reads the flashcards in {@code file}, whose header and checksum have been checked.
+     * The fields of the flashcards are read in order, and converted a batch at a time by a {@code FlashcardListLoader},
+     * which reports every flashcard that is not valid as it does for Json files.
+     */
+    private static FlashcardList readFlashcards(ByteBuffer file, ValuePool pool) throws IllegalValueException {
+        ByteBuffer content = file.duplicate().position(HEADER_LENGTH).limit(file.limit() - CHECKSUM_LENGTH);
+        BinaryFlashcardReader reader = new BinaryFlashcardReader(content, pool);
+        int tagCount = reader.readCount();
+        List<Tag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(reader.readTag());
+        }
+        int flashcardCount = reader.readCount();
+        FlashcardListLoader loader = new FlashcardListLoader(pool);
+        List<BinaryFlashcardReader.FlashcardFields> batch = new ArrayList<>(FlashcardListLoader.BATCH_SIZE);
+        for (int i = 0; i < flashcardCount; i++) {
+            batch.add(reader.readFields(tags));
+            if (batch.size() == FlashcardListLoader.BATCH_SIZE) {
+                loader.addAll(batch, BinaryFlashcardReader.FlashcardFields::toModelType);
+                batch.clear();
+            }
+        }
+        loader.addAll(batch, BinaryFlashcardReader.FlashcardFields::toModelType);
+        if (content.hasRemaining()) {
+            throw new IllegalValueException("Issue in saved file, there is data after the last flashcard.");
+        }
+        return loader.toModelType();
+    }
+
+    @Override
+    public void saveFlashcardList(ReadOnlyFlashcardList flashcardList) throws IOException {
+        saveFlashcardList(flashcardList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveFlashcardList(ReadOnlyFlashcardList)}.
+     * The file is replaced only once all the flashcards have been written.
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveFlashcardList(ReadOnlyFlashcardList flashcardList, Path filePath) throws IOException {
+        requireNonNull(flashcardList);
+        requireNonNull(filePath);
+        List<Flashcard> flashcards = flashcardList.getFlashcardList();
+        Map<Tag, Integer> tagNumbers = new LinkedHashMap<>();
+        for (Flashcard flashcard : flashcards) {
+            for (Tag tag : flashcard.getTags()) {
+                tagNumbers.putIfAbsent(tag, tagNumbers.size());
+            }
+        }
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            BinaryFlashcardWriter writer = new BinaryFlashcardWriter(out);
+            writer.writeInt(MAGIC);
+            writer.writeByte(VERSION);
+            writer.writeVarInt(tagNumbers.size());
+            for (Tag tag : tagNumbers.keySet()) {
+                writer.writeString(tag.tagName);
+            }
+            writer.writeVarInt(flashcards.size());
+            for (Flashcard flashcard : flashcards) {
+                writer.writeFlashcard(flashcard, tagNumbers);
+            }
+            writer.writeInt(writer.getChecksum());
+            writer.flush();
+        });
+    }
+}
@@ -0,0 +1,201 @@
+package seedu.flashcard.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.flashcard.commons.exceptions.IllegalValueException;
+import seedu.flashcard.model.flashcard.Answer;
+import seedu.flashcard.model.flashcard.Choice;
+import seedu.flashcard.model.flashcard.Definition;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.McqFlashcard;
+import seedu.flashcard.model.flashcard.Question;
+import seedu.flashcard.model.flashcard.Schedule;
+import seedu.flashcard.model.flashcard.Score;
+import seedu.flashcard.model.flashcard.ShortAnswerFlashcard;
+import seedu.flashcard.model.tag.Tag;
+
+/**
+ * Reads flashcards written by a {@code BinaryFlashcardWriter} from a buffer, starting at its position.
+ * Values are checked as the model's constructors check them, and shared with other flashcards through a pool.
+ */
+class BinaryFlashcardReader {
+
+    private final ByteBuffer buffer;
+    private final ValuePool pool;
+    private byte[] scratch = new byte[256];
+
+    BinaryFlashcardReader(ByteBuffer buffer, ValuePool pool) {
+        this.buffer = buffer;
+        this.pool = pool;
+    }
+
+    /**
+     * Reads a flashcard whose tags are numbered by their positions in {@code tags}.
+     *
+     * @throws IllegalValueException if the flashcard is not in the expected format, or its values are not valid.
+     */
+    Flashcard readFlashcard(List<Tag> tags) throws IllegalValueException {
+        return readFields(tags).toModelType(pool);
+    }
+
+    /**
+     * Reads the fields of a flashcard whose tags are numbered by their positions in {@code tags},
+     * leaving the buffer at the start of the next flashcard. The values of the fields are not checked yet.
+     *
+     * @throws IllegalValueException if the flashcard is not in the expected format.
+     */
+    FlashcardFields readFields(List<Tag> tags) throws IllegalValueException {
+        FlashcardFields fields = new FlashcardFields();
+        fields.type = buffer.get();
+        if (fields.type != BinaryFlashcardWriter.SHORT_ANSWER_FLASHCARD
+                && fields.type != BinaryFlashcardWriter.MCQ_FLASHCARD) {
+            throw new IllegalValueException("Issue in saved file, the flashcard type is incorrect.");
+        }
+        fields.question = readString();
+        fields.definition = readString();
+        fields.answer = readString();
+        if (fields.type == BinaryFlashcardWriter.MCQ_FLASHCARD) {
+            int choiceCount = readCount();
+            for (int i = 0; i < choiceCount; i++) {
+                fields.choices.add(readString());
+            }
+        }
+        int tagCount = readCount();
+        for (int i = 0; i < tagCount; i++) {
+            int tagNumber = readVarInt();
+            if (tagNumber < 0 || tagNumber >= tags.size()) {
+                throw new IllegalValueException("Issue in saved file, a flashcard has a tag that does not exist.");
+            }
+            fields.tags.add(tags.get(tagNumber));
+        }
+        fields.correctAnswers = readVarInt();
+        fields.wrongAnswers = readVarInt();
+        fields.repetitions = readVarInt();
+        fields.interval = readVarInt();
+        fields.ease = Double.longBitsToDouble(buffer.getLong());
+        fields.dueTime = buffer.getLong();
+        return fields;
+    }
+
+    /**
+     * Reads a tag name, as written by {@code BinaryFlashcardWriter#writeString}, and returns the tag.
+     *
+     * @throws IllegalValueException if the tag name is not valid.
+     */
+    Tag readTag() throws IllegalValueException {
+        String tagName = readString();
+        if (!Tag.isValidTagName(tagName)) {
+            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        return new Tag(tagName);
+    }
+
+    /**
+     * Reads a string written by {@code BinaryFlashcardWriter#writeString}.
+     */
+    String readString() throws IllegalValueException {
+        int length = readCount();
+        if (buffer.hasArray()) {
+            String text = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return text;
+        }
+        if (length > scratch.length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a number of items that follow, which must fit in what is left of the buffer.
+     */
+    int readCount() throws IllegalValueException {
+        int count = readVarInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalValueException("Issue in saved file, a length runs past the end of the file.");
+        }
+        return count;
+    }
+
+    /**
+     * Reads a number written by {@code BinaryFlashcardWriter#writeVarInt}.
+     */
+    int readVarInt() throws IllegalValueException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte next = buffer.get();
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException("Issue in saved file, a number is too long.");
+    }
+
+    /**
+     * The fields of a flashcard as read from the buffer, to be checked and converted into the model's flashcard
+     * on any thread, as they no longer depend on the buffer.
+     */
+    static class FlashcardFields {
+        private byte type;
+        private String question;
+        private String definition;
+        private String answer;
+        private final List<String> choices = new ArrayList<>();
+        private final Set<Tag> tags = new HashSet<>();
+        private int correctAnswers;
+        private int wrongAnswers;
+        private int repetitions;
+        private int interval;
+        private double ease;
+        private long dueTime;
+
+        /**
+         * Converts the fields into the model's flashcard, sharing its values through {@code pool}.
+         *
+         * @throws IllegalValueException if the values of the fields are not valid.
+         */
+        Flashcard toModelType(ValuePool pool) throws IllegalValueException {
+            if (!Question.isValidQuestion(question)) {
+                throw new IllegalValueException(Question.MESSAGE_CONSTRAINTS);
+            }
+            if (!Definition.isValidDefinition(definition)) {
+                throw new IllegalValueException(Definition.MESSAGE_CONSTRAINTS);
+            }
+            if (!Answer.isValidAnswer(answer)) {
+                throw new IllegalValueException(Answer.MESSAGE_CONSTRAINTS);
+            }
+            List<Choice> modelChoices = new ArrayList<>();
+            for (String choice : choices) {
+                if (!Choice.isValidChoice(choice)) {
+                    throw new IllegalValueException(Choice.MESSAGE_CONSTRAINTS);
+                }
+                modelChoices.add(pool.getChoice(choice));
+            }
+            if (!Score.isValidScore(correctAnswers, wrongAnswers)) {
+                throw new IllegalValueException(Score.MESSAGE_CONSTRAINTS);
+            }
+            if (!Schedule.isValidSchedule(repetitions, interval, ease)) {
+                throw new IllegalValueException(Schedule.MESSAGE_CONSTRAINTS);
+            }
+
+            Question modelQuestion = new Question(question);
+            Definition modelDefinition = pool.getDefinition(definition);
+            Answer modelAnswer = pool.getAnswer(answer);
+            Score score = new Score(correctAnswers, wrongAnswers);
+            Schedule schedule = new Schedule(repetitions, interval, ease, dueTime);
+            if (type == BinaryFlashcardWriter.MCQ_FLASHCARD) {
+                return new McqFlashcard(modelQuestion, modelChoices, modelDefinition, tags, modelAnswer, score,
+                    schedule);
+            }
+            return new ShortAnswerFlashcard(modelQuestion, modelDefinition, tags, modelAnswer, score, schedule);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.flashcard.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import seedu.flashcard.model.flashcard.Choice;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.McqFlashcard;
+import seedu.flashcard.model.flashcard.Schedule;
+import seedu.flashcard.model.flashcard.Score;
+import seedu.flashcard.model.tag.Tag;
+
+/**
+ * Writes flashcards in the binary format described in {@link BinaryFlashcardListStorage} to a stream,
+ * through a buffer of its own, keeping the checksum of everything written.
+ * It can also keep the checksum of a record, being the bytes written since the record was started.
+ */
+class BinaryFlashcardWriter {
+
+    static final byte SHORT_ANSWER_FLASHCARD = 0;
+    static final byte MCQ_FLASHCARD = 1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final CRC32 crc = new CRC32();
+    private final CRC32 recordCrc = new CRC32();
+    private int position = 0;
+    // Start in the buffer of the bytes of the current record not yet in its checksum
+    private int recordStart = 0;
+    private long flushedBytes = 0;
+
+    BinaryFlashcardWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes {@code flashcard}, with its tags as their numbers in {@code tagNumbers}.
+     */
+    void writeFlashcard(Flashcard flashcard, Map<Tag, Integer> tagNumbers) throws IOException {
+        writeByte(flashcard.isMcq() ? MCQ_FLASHCARD : SHORT_ANSWER_FLASHCARD);
+        writeString(flashcard.getQuestion().question);
+        writeString(flashcard.getDefinition().getDefinition());
+        writeString(flashcard.getAnswer().answer);
+        if (flashcard.isMcq()) {
+            List<Choice> choices = ((McqFlashcard) flashcard).getChoices();
+            writeVarInt(choices.size());
+            for (Choice choice : choices) {
+                writeString(choice.choice);
+            }
+        }
+        writeVarInt(flashcard.getTags().size());
+        for (Tag tag : flashcard.getTags()) {
+            writeVarInt(tagNumbers.get(tag));
+        }
+        Score score = flashcard.getScore();
+        writeVarInt(score.getCorrectAnswers());
+        writeVarInt(score.getWrongAnswers());
+        Schedule schedule = flashcard.getSchedule();
+        writeVarInt(schedule.getRepetitions());
+        writeVarInt(schedule.getInterval());
+        writeLong(Double.doubleToLongBits(schedule.getEase()));
+        writeLong(schedule.getDueTime());
+    }
+
+    /**
+     * Writes {@code text} as its length in UTF-8 bytes followed by those bytes.
+     */
+    void writeString(String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        writeBytes(bytes);
+    }
+
+    /**
+     * Writes {@code value} in as few bytes as it needs, seven bits to a byte, lowest bits first.
+     * The top bit of each byte is set if more bytes follow.
+     */
+    void writeVarInt(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            writeByte((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeByte((byte) value);
+    }
+
+    /**
+     * Writes {@code value} as four bytes, highest byte first.
+     */
+    void writeInt(int value) throws IOException {
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            writeByte((byte) (value >>> shift));
+        }
+    }
+
+    /**
+     * Writes {@code value} as eight bytes, highest byte first.
+     */
+    void writeLong(long value) throws IOException {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            writeByte((byte) (value >>> shift));
+        }
+    }
+
+    /**
+     * Writes the single byte {@code value}.
+     */
+    void writeByte(byte value) throws IOException {
+        if (position == buffer.length) {
+            flush();
+        }
+        buffer[position++] = value;
+    }
+
+    /**
+     * Writes all of {@code bytes}.
+     */
+    void writeBytes(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.length - position) {
+            flush();
+        }
+        if (bytes.length > buffer.length) {
+            crc.update(bytes);
+            recordCrc.update(bytes);
+            out.write(bytes);
+            flushedBytes += bytes.length;
+            return;
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * Writes out the buffered bytes, and returns the checksum of everything written so far.
+     */
+    int getChecksum() throws IOException {
+        flush();
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Starts a record at the next byte written.
+     */
+    void startRecord() {
+        recordStart = position;
+        recordCrc.reset();
+    }
+
+    /**
+     * Returns the checksum of the bytes written since the current record was started.
+     */
+    int getRecordChecksum() {
+        recordCrc.update(buffer, recordStart, position - recordStart);
+        recordStart = position;
+        return (int) recordCrc.getValue();
+    }
+
+    /**
+     * Returns the number of bytes written so far, including those still buffered.
+     */
+    long getBytesWritten() {
+        return flushedBytes + position;
+    }
+
+    /**
+     * Writes out the buffered bytes, without flushing the stream itself.
+     */
+    void flush() throws IOException {
+        crc.update(buffer, 0, position);
+        recordCrc.update(buffer, recordStart, position - recordStart);
+        out.write(buffer, 0, position);
+        flushedBytes += position;
+        position = 0;
+        recordStart = 0;
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.flashcard.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.flashcard.commons.core.FlashcardListFormat;
+import seedu.flashcard.commons.core.LogsCenter;
+import seedu.flashcard.commons.exceptions.DataConversionException;
+import seedu.flashcard.model.ReadOnlyFlashcardList;
+import seedu.flashcard.model.flashcard.DefinitionSegment;
+
+/**
+ * Converts flashcard list files between the formats in {@link FlashcardListFormat}.
+ * It can also be run on its own, given the file to convert and the file to convert it to,
+ * each in the format given by its extension.
+ */
+public class FlashcardListConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(FlashcardListConverter.class);
+
+    /**
+     * Returns a storage for the flashcard list file at {@code filePath}, in the format given by its extension.
+     * Loaded flashcards keep their definitions in {@code definitionSegment}, or in memory if it is null,
+     * and Json files are saved without line breaks and indentation if {@code isCompactJson}.
+     */
+    public static FlashcardStorage createStorage(Path filePath, DefinitionSegment definitionSegment,
+                                                 boolean isCompactJson) {
+        requireNonNull(filePath);
+        switch (FlashcardListFormat.fromFilePath(filePath)) {
+        case BINARY:
+            return new BinaryFlashcardListStorage(filePath, definitionSegment);
+        case MAPPED:
+            return new MappedFlashcardListStorage(filePath, definitionSegment);
+        default:
+            return new JsonFlashcardListStorage(filePath, definitionSegment, isCompactJson);
+        }
+    }
+
+    /**
+     * Saves the flashcard list in {@code source} to {@code target}.
+     * @return false if {@code source} has no flashcard list to convert.
+     * @throws DataConversionException if the flashcard list in {@code source} is not in the correct format.
+     * @throws IOException if there was any problem reading or saving the flashcard list.
+     */
+    public static boolean convert(FlashcardStorage source, FlashcardStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        Optional<ReadOnlyFlashcardList> flashcardList = source.readFlashcardList();
+        if (!flashcardList.isPresent()) {
+            return false;
+        }
+        target.saveFlashcardList(flashcardList.get());
+        logger.info("Converted " + flashcardList.get().getFlashcardList().size() + " flashcards from "
+            + source.getFlashcardListFilePath() + " to " + target.getFlashcardListFilePath());
+        return true;
+    }
+
+    /**
+     * Converts the flashcard list file named by the first argument into the file named by the second.
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: FlashcardListConverter <file to convert> <file to convert it to>");
+            System.exit(2);
+        }
+        try {
+            if (!convert(createStorage(Paths.get(args[0]), null, false), createStorage(Paths.get(args[1]), null,
+                    false))) {
+                System.err.println("File not found: " + args[0]);
+                System.exit(1);
+            }
+        } catch (DataConversionException | IOException e) {
+            System.err.println("Could not convert " + args[0] + ": " + e);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.flashcard.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import seedu.flashcard.commons.exceptions.IllegalValueException;
+import seedu.flashcard.model.FlashcardList;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.Question;
+
+/**
+ * Converts the flashcards read from a file, in whichever form the file holds them,
+ * into the model's flashcards, a batch at a time.
+ * The flashcards of a batch are converted and checked across the common fork-join pool, as each stands on its own.
+ * They are then checked for duplicates of each other and of the flashcards of earlier batches, and kept in the
+ * order of the file, one at a time. Every flashcard that is not valid is reported, not only the first.
+ */
+class FlashcardListLoader {
+
+    public static final int BATCH_SIZE = 4096;
+
+    public static final String MESSAGE_INVALID_FLASHCARDS = "Issue in saved file, %d of its flashcards are not valid:";
+    public static final String MESSAGE_INVALID_FLASHCARD = "Flashcard %d: %s";
+
+    private final ValuePool pool;
+    private final List<Flashcard> flashcards = new ArrayList<>();
+    private final Set<Question> questions = new HashSet<>();
+    private final List<String> problems = new ArrayList<>();
+    private int flashcardsRead = 0;
+
+    /**
+     * Creates a loader that shares values repeated across the flashcards through {@code pool}.
+     */
+    FlashcardListLoader(ValuePool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Converts the flashcards in {@code batch}, which follow those already added in the file.
+     */
+    void addAll(List<JsonAdaptedFlashcard> batch) {
+        addAll(batch, JsonAdaptedFlashcard::toModelType);
+    }
+
+    /**
+     * Converts the flashcards in {@code batch}, which follow those already added in the file, with {@code converter}.
+     */
+    <T> void addAll(List<T> batch, Converter<? super T> converter) {
+        Flashcard[] converted = new Flashcard[batch.size()];
+        String[] batchProblems = new String[batch.size()];
+        IntStream.range(0, batch.size()).parallel().forEach(i -> {
+            try {
+                Flashcard flashcard = converter.toModelType(batch.get(i), pool);
+                if (flashcard.isValidFlashcard()) {
+                    converted[i] = flashcard;
+                } else {
+                    batchProblems[i] = JsonSerializableFlashcardList.MESSAGE_ILLEGAL_FLASHCARD;
+                }
+            } catch (IllegalValueException e) {
+                batchProblems[i] = e.getMessage();
+            }
+        });
+
+        for (int i = 0; i < batch.size(); i++) {
+            flashcardsRead++;
+            if (batchProblems[i] != null) {
+                addProblem(batchProblems[i]);
+            } else if (!questions.add(converted[i].getQuestion())) {
+                addProblem(JsonSerializableFlashcardList.MESSAGE_DUPLICATE_FLASHCARD);
+            } else {
+                flashcards.add(converted[i]);
+            }
+        }
+    }
+
+    /**
+     * Records that the flashcard last read is not valid, for the reason given by {@code message}.
+     */
+    private void addProblem(String message) {
+        problems.add(String.format(MESSAGE_INVALID_FLASHCARD, flashcardsRead, message));
+    }
+
+    /**
+     * Returns a flashcard list of all the flashcards added.
+     * @throws IllegalValueException if any of them is not valid, or is a duplicate, listing every one that is.
+     */
+    FlashcardList toModelType() throws IllegalValueException {
+        if (!problems.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_FLASHCARDS, problems.size())
+                + "\n" + String.join("\n", problems));
+        }
+        FlashcardList flashcardList = new FlashcardList();
+        flashcardList.setFlashcards(flashcards);
+        return flashcardList;
+    }
+
+    /**
+     * Converts a flashcard as a file holds it into the model's flashcard, sharing its values through a pool.
+     */
+    @FunctionalInterface
+    interface Converter<T> {
+        Flashcard toModelType(T flashcard, ValuePool pool) throws IllegalValueException;
+    }
+}
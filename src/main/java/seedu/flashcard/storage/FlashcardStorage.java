@@ -17,6 +17,14 @@ public interface FlashcardStorage {
      */
     Path getFlashcardListFilePath();
 
+    /**
+     * Returns the path of the file that flashcard list data was last read from, which is the backup of the data file
+     * when the data file was missing or damaged, or null if no data has been read or the storage does not tell.
+     */
+    default Path getLastReadFilePath() {
+        return null;
+    }
+
     /**
      * Returns flashcard list data as a {@code ReadOnlyFlashcardList}.
      * @return the flashcard list been read.
@@ -0,0 +1,352 @@
+package seedu.flashcard.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.flashcard.commons.core.LogsCenter;
+import seedu.flashcard.commons.exceptions.DataConversionException;
+import seedu.flashcard.commons.exceptions.IllegalValueException;
+import seedu.flashcard.commons.util.JsonUtil;
+import seedu.flashcard.model.FlashcardList;
+import seedu.flashcard.model.ReadOnlyFlashcardList;
+import seedu.flashcard.model.flashcard.DefinitionSegment;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.exceptions.DuplicateCardException;
+
+/**
+ * A class to access FlashcardList data stored as a snapshot file with a journal of the changes made since.
+ * Each save appends only the flashcards added, replaced, removed or reviewed since the last save to the journal,
+ * one Json record per line, followed by a record marking the end of the save, and forces them to the disk.
+ * Flashcards are reviewed without being replaced, so the list saved must report the positions of those it reviewed.
+ * A list that does not, or a journal holding more records than there are flashcards,
+ * or {@code MIN_RECORDS_BEFORE_COMPACTION}, has the save write the whole list to the snapshot instead
+ * and start an empty journal.
+ * Reading replays the journal on top of the snapshot. Records after the end of the last complete save,
+ * left by a save that was cut short, are dropped from the journal.
+ * The journal names the size and modification time of the snapshot it applies to, and is ignored
+ * if the snapshot has been changed without it, or if the snapshot storage read the backup of the snapshot instead.
+ */
+public class JournaledFlashcardListStorage implements FlashcardStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    static final int MIN_RECORDS_BEFORE_COMPACTION = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledFlashcardListStorage.class);
+
+    private final FlashcardStorage snapshotStorage;
+    private final DefinitionSegment definitionSegment;
+    private final Path journalPath;
+    // The flashcards as of the last save, or null if the next save must start a new snapshot
+    private List<Flashcard> written = null;
+    private int recordsInJournal = 0;
+
+    /**
+     * Creates a storage that keeps its snapshot through {@code snapshotStorage}, and its journal next to it.
+     * Flashcards read from the journal keep their definitions in {@code definitionSegment},
+     * or in memory if it is null.
+     */
+    public JournaledFlashcardListStorage(FlashcardStorage snapshotStorage,
+                                         DefinitionSegment definitionSegment) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.definitionSegment = definitionSegment;
+        Path snapshotPath = snapshotStorage.getFlashcardListFilePath();
+        this.journalPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getFlashcardListFilePath() {
+        return snapshotStorage.getFlashcardListFilePath();
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot.
+     */
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Path getLastReadFilePath() {
+        return snapshotStorage.getLastReadFilePath();
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyFlashcardList> readFlashcardList()
+            throws DataConversionException, IOException {
+        written = null;
+        recordsInJournal = 0;
+        Optional<ReadOnlyFlashcardList> snapshot = snapshotStorage.readFlashcardList();
+        if (!snapshot.isPresent()) {
+            return snapshot;
+        }
+        Path snapshotRead = snapshotStorage.getLastReadFilePath();
+        if (!getFlashcardListFilePath().equals(snapshotRead)) {
+            // The journal was written on top of the snapshot, not of an older one kept as its backup
+            logger.warning("Snapshot read from " + snapshotRead + " rather than " + getFlashcardListFilePath()
+                + ", ignoring journal file " + journalPath);
+            return snapshot;
+        }
+        try {
+            List<Flashcard> flashcards = new ArrayList<>(snapshot.get().getFlashcardList());
+            if (!Files.exists(journalPath)) {
+                logger.info("Journal file " + journalPath + " not found, starting a new one at the next save");
+                return snapshot;
+            }
+            int replayed = replayJournal(flashcards);
+            if (replayed < 0) {
+                logger.warning("Journal file " + journalPath + " does not apply to " + getFlashcardListFilePath()
+                    + ", ignoring it");
+                return snapshot;
+            }
+            written = flashcards;
+            if (replayed > 0) {
+                logger.info("Replayed " + replayed + " journal records on top of " + getFlashcardListFilePath());
+            }
+            // The next save compares flashcards by identity, so the list read must hold those written,
+            // rather than the snapshot, which may decode new flashcards each time it is asked for them
+            FlashcardList flashcardList = new FlashcardList();
+            flashcardList.setFlashcards(flashcards);
+            return Optional.of(flashcardList);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + e);
+            written = null;
+            throw new DataConversionException(e);
+        } catch (IllegalValueException | DuplicateCardException e) {
+            logger.info("Illegal values found in " + journalPath + ": " + e.getMessage());
+            written = null;
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Similar to {@link #readFlashcardList()}.
+     * Files other than the snapshot of this storage are read without a journal.
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyFlashcardList> readFlashcardList(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getFlashcardListFilePath())) {
+            return readFlashcardList();
+        }
+        return snapshotStorage.readFlashcardList(filePath);
+    }
+
+    /**
+     * Makes the changes recorded by the complete saves in the journal on {@code flashcards},
+     * and cuts off the records of a save that was not completed.
+     * @return the number of records replayed, or -1 if the journal does not apply to the current snapshot.
+     */
+    private int replayJournal(List<Flashcard> flashcards) throws IOException, IllegalValueException {
+        byte[] journal = Files.readAllBytes(journalPath);
+        ValuePool pool = new ValuePool(definitionSegment);
+        List<JsonAdaptedJournalRecord> uncommitted = new ArrayList<>();
+        int replayed = 0;
+        int committedEnd = 0;
+        boolean isHeader = true;
+        int lineStart = 0;
+        while (lineStart < journal.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < journal.length && journal[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            if (lineEnd == journal.length) {
+                // Every record is written with its line break, so a line without one was cut short
+                break;
+            }
+            boolean isLastLine = lineEnd + 1 == journal.length;
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(
+                    new String(journal, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8),
+                    JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                if (!isLastLine) {
+                    throw e;
+                }
+                // The last line was cut short by a save that did not complete
+                break;
+            }
+            lineStart = lineEnd + 1;
+            if (isHeader) {
+                if (record.getSnapshot() == null || !record.getSnapshot().equals(getSnapshotStamp())) {
+                    // The snapshot was written since, without the journal being started again
+                    return -1;
+                }
+                isHeader = false;
+                committedEnd = lineStart;
+            } else if (record.isCommit()) {
+                for (JsonAdaptedJournalRecord change : uncommitted) {
+                    change.applyTo(flashcards, pool);
+                }
+                replayed += uncommitted.size();
+                recordsInJournal += uncommitted.size() + 1;
+                uncommitted.clear();
+                committedEnd = lineStart;
+            } else {
+                uncommitted.add(record);
+            }
+        }
+        if (isHeader) {
+            return -1;
+        }
+        if (committedEnd < journal.length) {
+            logger.warning("Dropping the incomplete last save from journal file " + journalPath);
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(committedEnd);
+            }
+        }
+        return replayed;
+    }
+
+    @Override
+    public synchronized void saveFlashcardList(ReadOnlyFlashcardList flashcardList) throws IOException {
+        requireNonNull(flashcardList);
+        List<Flashcard> flashcards = flashcardList.getFlashcardList();
+        int[] reviewedPositions = flashcardList.getReviewedPositions();
+        if (written == null || reviewedPositions == null
+                || recordsInJournal > Math.max(MIN_RECORDS_BEFORE_COMPACTION, flashcards.size())) {
+            compact(flashcardList);
+            return;
+        }
+        List<JsonAdaptedJournalRecord> records = recordChanges(flashcards, reviewedPositions);
+        if (records.isEmpty()) {
+            return;
+        }
+        records.add(JsonAdaptedJournalRecord.commit());
+        try {
+            appendToJournal(records);
+        } catch (IOException e) {
+            written = null;
+            throw e;
+        }
+        recordsInJournal += records.size();
+    }
+
+    /**
+     * Similar to {@link #saveFlashcardList(ReadOnlyFlashcardList)}.
+     * Files other than the snapshot of this storage are written whole, without a journal.
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveFlashcardList(ReadOnlyFlashcardList flashcardList, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getFlashcardListFilePath())) {
+            saveFlashcardList(flashcardList);
+            return;
+        }
+        snapshotStorage.saveFlashcardList(flashcardList, filePath);
+    }
+
+    /**
+     * Writes the whole of {@code flashcardList} to the snapshot, and replaces the journal with an empty one.
+     */
+    private void compact(ReadOnlyFlashcardList flashcardList) throws IOException {
+        written = null;
+        snapshotStorage.saveFlashcardList(flashcardList);
+        String header = JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.snapshot(getSnapshotStamp())) + "\n";
+        Path tempPath = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+        writeToDisk(tempPath, header, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        Files.move(tempPath, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.fine("Compacted " + recordsInJournal + " journal records into " + getFlashcardListFilePath());
+        written = new ArrayList<>(flashcardList.getFlashcardList());
+        recordsInJournal = 0;
+    }
+
+    /**
+     * Returns the records that turn the flashcards as of the last save into {@code flashcards},
+     * and takes {@code flashcards} as the flashcards saved.
+     * Flashcards are compared by identity, as edits replace flashcards rather than change them.
+     * Those at {@code reviewedPositions} are written again unless they were already, as reviews change them within.
+     */
+    private List<JsonAdaptedJournalRecord> recordChanges(List<Flashcard> flashcards, int[] reviewedPositions) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        int oldSize = written.size();
+        int newSize = flashcards.size();
+        int start = 0;
+        while (start < oldSize && start < newSize && written.get(start) == flashcards.get(start)) {
+            start++;
+        }
+        int oldEnd = oldSize;
+        int newEnd = newSize;
+        while (oldEnd > start && newEnd > start && written.get(oldEnd - 1) == flashcards.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+        int replaced = Math.min(oldEnd, newEnd) - start;
+        for (int i = start; i < start + replaced; i++) {
+            records.add(JsonAdaptedJournalRecord.set(i, flashcards.get(i)));
+            written.set(i, flashcards.get(i));
+        }
+        for (int i = start + replaced; i < oldEnd; i++) {
+            records.add(JsonAdaptedJournalRecord.remove(start + replaced));
+        }
+        written.subList(start + replaced, oldEnd).clear();
+        for (int i = start + replaced; i < newEnd; i++) {
+            records.add(JsonAdaptedJournalRecord.add(i, flashcards.get(i)));
+        }
+        written.addAll(start + replaced, flashcards.subList(start + replaced, newEnd));
+        for (int position : reviewedPositions) {
+            if (position < start || position >= newEnd) {
+                records.add(JsonAdaptedJournalRecord.set(position, flashcards.get(position)));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Appends {@code records} to the journal in a single write, one per line, and forces them to the disk
+     * so that the save is not reported done while its end is still in the file system's buffers.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        writeToDisk(journalPath, lines.toString(),
+            StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Writes {@code text} to {@code path}, opened with {@code options}, and forces it and the file's size to the disk.
+     */
+    private static void writeToDisk(Path path, String text, OpenOption... options) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Returns the size and modification time of the snapshot, which change whenever the snapshot is written,
+     * or null if there is no snapshot.
+     */
+    private String getSnapshotStamp() throws IOException {
+        Path snapshotPath = getFlashcardListFilePath();
+        if (!Files.exists(snapshotPath)) {
+            return null;
+        }
+        return Files.size(snapshotPath) + " " + Files.getLastModifiedTime(snapshotPath).toMillis();
+    }
+}
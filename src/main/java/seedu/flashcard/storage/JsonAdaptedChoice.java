@@ -38,9 +38,16 @@ public class JsonAdaptedChoice {
      * @throws IllegalValueException if there were any data constraints violated in the adapted Choice.
      */
     public Choice toModelType() throws IllegalValueException {
+        return toModelType(new ValuePool());
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but shares the model's {@code Choice} object through {@code pool}.
+     */
+    Choice toModelType(ValuePool pool) throws IllegalValueException {
         if (!Choice.isValidChoice(choice)) {
             throw new IllegalValueException(Choice.MESSAGE_CONSTRAINTS);
         }
-        return new Choice(choice);
+        return pool.getChoice(choice);
     }
 }
@@ -16,6 +16,7 @@ import seedu.flashcard.model.flashcard.Definition;
 import seedu.flashcard.model.flashcard.Flashcard;
 import seedu.flashcard.model.flashcard.McqFlashcard;
 import seedu.flashcard.model.flashcard.Question;
+import seedu.flashcard.model.flashcard.Schedule;
 import seedu.flashcard.model.flashcard.Score;
 import seedu.flashcard.model.flashcard.ShortAnswerFlashcard;
 import seedu.flashcard.model.tag.Tag;
@@ -32,11 +33,21 @@ public class JsonAdaptedFlashcard {
     private final String answer;
     private final String type;
     private final String score;
+    private final String schedule;
     private final List<JsonAdaptedChoice> choices = new ArrayList<>();
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedFlashcard} with the given flashcard details and no review schedule.
+     */
+    public JsonAdaptedFlashcard(String question, List<JsonAdaptedChoice> choices, String definition,
+                                List<JsonAdaptedTag> tagged, String answer, String score, String type) {
+        this(question, choices, definition, tagged, answer, score, null, type);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedFlashcard} with the given flashcard details.
+     * The review schedule is optional, as files saved before flashcards were scheduled do not have it.
      */
     @JsonCreator
     public JsonAdaptedFlashcard(@JsonProperty("question") String question,
@@ -45,6 +56,7 @@ public class JsonAdaptedFlashcard {
                                 @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
                                 @JsonProperty("answer") String answer,
                                 @JsonProperty("score") String score,
+                                @JsonProperty("schedule") String schedule,
                                 @JsonProperty("type") String type) {
         this.question = question;
         if (choices != null) {
@@ -57,6 +69,7 @@ public class JsonAdaptedFlashcard {
         this.answer = answer;
         this.type = type;
         this.score = score;
+        this.schedule = schedule;
     }
 
     /**
@@ -68,7 +81,7 @@ public class JsonAdaptedFlashcard {
             McqFlashcard mcqCard = (McqFlashcard) source;
             choices.addAll(mcqCard.getChoices().stream().map(JsonAdaptedChoice::new).collect(Collectors.toList()));
         }
-        definition = source.getDefinition().definition;
+        definition = source.getDefinition().getDefinition();
         tagged.addAll(source.getTags().stream().map(JsonAdaptedTag::new).collect(Collectors.toList()));
         answer = source.getAnswer().answer;
         if (source.isMcq()) {
@@ -77,6 +90,7 @@ public class JsonAdaptedFlashcard {
             type = "ShortAnswerFlashcard";
         }
         score = new JsonAdaptedScore(source.getScore()).getScore();
+        schedule = new JsonAdaptedSchedule(source.getSchedule()).getSchedule();
     }
 
     /**
@@ -85,6 +99,14 @@ public class JsonAdaptedFlashcard {
      * @throws IllegalValueException if there were any data constraints violated in the adapted flashcard.
      */
     public Flashcard toModelType() throws IllegalValueException {
+        return toModelType(new ValuePool());
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but shares the answer, choices and definition
+     * with other flashcards loaded through {@code pool}.
+     */
+    Flashcard toModelType(ValuePool pool) throws IllegalValueException {
         final List<Tag> flashcardTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
             flashcardTags.add(tag.toModelType());
@@ -106,7 +128,7 @@ public class JsonAdaptedFlashcard {
         if (!Definition.isValidDefinition(definition)) {
             throw new IllegalValueException(Definition.MESSAGE_CONSTRAINTS);
         }
-        final Definition modelDefinition = new Definition(definition);
+        final Definition modelDefinition = pool.getDefinition(definition);
 
         if (answer == null) {
             throw new IllegalValueException(
@@ -115,7 +137,7 @@ public class JsonAdaptedFlashcard {
         if (!Answer.isValidAnswer(answer)) {
             throw new IllegalValueException(Answer.MESSAGE_CONSTRAINTS);
         }
-        final Answer modelAnswer = new Answer(answer);
+        final Answer modelAnswer = pool.getAnswer(answer);
 
         final Set<Tag> modelTags = new HashSet<>(flashcardTags);
 
@@ -133,19 +155,24 @@ public class JsonAdaptedFlashcard {
         int wrongAnswer = Integer.parseInt(splitScore[1]);
         final Score modelScore = new Score(correctAnswer, wrongAnswer);
 
+        final Schedule modelSchedule =
+            schedule == null ? new Schedule() : new JsonAdaptedSchedule(schedule).toModelType();
+
         for (JsonAdaptedChoice choice : choices) {
-            flashcardChoices.add(choice.toModelType());
+            flashcardChoices.add(choice.toModelType(pool));
         }
 
         final List<Choice> modelChoices = new ArrayList<>(flashcardChoices);
 
         if (type.equals("McqFlashcard")) {
             McqFlashcard flashcard =
-                new McqFlashcard(modelQuestion, modelChoices, modelDefinition, modelTags, modelAnswer, modelScore);
+                new McqFlashcard(modelQuestion, modelChoices, modelDefinition, modelTags, modelAnswer, modelScore,
+                    modelSchedule);
             return flashcard;
         } else if (type.equals("ShortAnswerFlashcard")) {
             ShortAnswerFlashcard flashcard =
-                new ShortAnswerFlashcard(modelQuestion, modelDefinition, modelTags, modelAnswer, modelScore);
+                new ShortAnswerFlashcard(modelQuestion, modelDefinition, modelTags, modelAnswer, modelScore,
+                    modelSchedule);
             return flashcard;
         } else {
             throw new IllegalValueException("Issue in saved file, the flashcard type is incorrect.");
@@ -0,0 +1,125 @@
+package seedu.flashcard.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.flashcard.commons.exceptions.IllegalValueException;
+import seedu.flashcard.model.flashcard.Flashcard;
+
+/**
+ * Json-friendly version of one record in the journal of a {@link JournaledFlashcardListStorage}.
+ * A record either adds, replaces or removes the flashcard at an index of the list, marks the end of the records
+ * written by one save, or, as the first record of the journal, names the snapshot the journal applies to.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    static final String ADD = "add";
+    static final String SET = "set";
+    static final String REMOVE = "remove";
+    static final String COMMIT = "commit";
+    static final String SNAPSHOT = "snapshot";
+
+    private final String op;
+    private final Integer index;
+    private final JsonAdaptedFlashcard flashcard;
+    private final String snapshot;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("index") Integer index,
+                             @JsonProperty("flashcard") JsonAdaptedFlashcard flashcard,
+                             @JsonProperty("snapshot") String snapshot) {
+        this.op = op;
+        this.index = index;
+        this.flashcard = flashcard;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Returns a record that inserts {@code flashcard} at {@code index}.
+     */
+    static JsonAdaptedJournalRecord add(int index, Flashcard flashcard) {
+        return new JsonAdaptedJournalRecord(ADD, index, new JsonAdaptedFlashcard(flashcard), null);
+    }
+
+    /**
+     * Returns a record that replaces the flashcard at {@code index} with {@code flashcard}.
+     */
+    static JsonAdaptedJournalRecord set(int index, Flashcard flashcard) {
+        return new JsonAdaptedJournalRecord(SET, index, new JsonAdaptedFlashcard(flashcard), null);
+    }
+
+    /**
+     * Returns a record that removes the flashcard at {@code index}.
+     */
+    static JsonAdaptedJournalRecord remove(int index) {
+        return new JsonAdaptedJournalRecord(REMOVE, index, null, null);
+    }
+
+    /**
+     * Returns a record that ends the records written by one save.
+     */
+    static JsonAdaptedJournalRecord commit() {
+        return new JsonAdaptedJournalRecord(COMMIT, null, null, null);
+    }
+
+    /**
+     * Returns a record naming the snapshot, described by {@code snapshotStamp}, that the journal applies to.
+     */
+    static JsonAdaptedJournalRecord snapshot(String snapshotStamp) {
+        return new JsonAdaptedJournalRecord(SNAPSHOT, null, null, snapshotStamp);
+    }
+
+    /**
+     * Returns true if this record ends the records written by one save.
+     */
+    boolean isCommit() {
+        return COMMIT.equals(op);
+    }
+
+    /**
+     * Returns the snapshot this record names, or null if it does not name one.
+     */
+    String getSnapshot() {
+        return SNAPSHOT.equals(op) ? snapshot : null;
+    }
+
+    /**
+     * Makes the change this record describes on {@code flashcards}, sharing values through {@code pool}.
+     *
+     * @throws IllegalValueException if the record is not a valid change to {@code flashcards}.
+     */
+    void applyTo(List<Flashcard> flashcards, ValuePool pool) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException("Journal record's op field is missing.");
+        }
+        if (index == null) {
+            throw new IllegalValueException("Journal record's index field is missing.");
+        }
+        int maxIndex = op.equals(ADD) ? flashcards.size() : flashcards.size() - 1;
+        if (index < 0 || index > maxIndex) {
+            throw new IllegalValueException("Journal record refers to flashcard " + index
+                + ", but the list has " + flashcards.size() + " flashcards.");
+        }
+        if (op.equals(REMOVE)) {
+            flashcards.remove((int) index);
+            return;
+        }
+        if (flashcard == null) {
+            throw new IllegalValueException("Journal record's flashcard field is missing.");
+        }
+        if (op.equals(ADD)) {
+            flashcards.add(index, flashcard.toModelType(pool));
+        } else if (op.equals(SET)) {
+            flashcards.set(index, flashcard.toModelType(pool));
+        } else {
+            throw new IllegalValueException("Issue in journal, the record op is incorrect.");
+        }
+    }
+}
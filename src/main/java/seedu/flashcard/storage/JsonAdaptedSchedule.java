@@ -0,0 +1,47 @@
+package seedu.flashcard.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import seedu.flashcard.commons.exceptions.IllegalValueException;
+import seedu.flashcard.model.flashcard.Schedule;
+
+/**
+ * Json-friendly version of {@link seedu.flashcard.model.flashcard.Schedule}
+ */
+public class JsonAdaptedSchedule {
+
+    private final String schedule;
+
+    /**
+     * Constructs a {@code JsonAdaptedSchedule} with given {@code schedule}
+     */
+    @JsonCreator
+    public JsonAdaptedSchedule(String schedule) {
+        this.schedule = schedule;
+    }
+
+    /**
+     * Converts a given {@code schedule} into this class for Jackson use
+     */
+    public JsonAdaptedSchedule(Schedule schedule) {
+        this.schedule = schedule.toString();
+    }
+
+    @JsonValue
+    public String getSchedule() {
+        return schedule;
+    }
+
+    /**
+     * Converts this Jackson friendly schedule object into the model's {@code Schedule} object
+     */
+    public Schedule toModelType() throws IllegalValueException {
+        if (!Schedule.isValidSchedule(schedule)) {
+            throw new IllegalValueException(Schedule.MESSAGE_CONSTRAINTS);
+        }
+        String[] splitSchedule = schedule.split(" ");
+        return new Schedule(Integer.parseInt(splitSchedule[0]), Integer.parseInt(splitSchedule[1]),
+            Double.parseDouble(splitSchedule[2]), Long.parseLong(splitSchedule[3]));
+    }
+}
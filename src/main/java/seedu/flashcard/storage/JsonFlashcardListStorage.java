@@ -3,16 +3,20 @@ package seedu.flashcard.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.flashcard.commons.core.LogsCenter;
 import seedu.flashcard.commons.exceptions.DataConversionException;
 import seedu.flashcard.commons.exceptions.IllegalValueException;
-import seedu.flashcard.commons.util.FileUtil;
 import seedu.flashcard.commons.util.JsonUtil;
+import seedu.flashcard.model.FlashcardList;
 import seedu.flashcard.model.ReadOnlyFlashcardList;
+import seedu.flashcard.model.flashcard.DefinitionSegment;
 
 /**
  * A class to access FlashcardList data stored as a json file on the hard disk.
@@ -22,9 +26,22 @@ public class JsonFlashcardListStorage implements FlashcardStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonFlashcardListStorage.class);
 
     private Path filePath;
+    private final DefinitionSegment definitionSegment;
+    private Path lastReadFilePath = null;
+    private final boolean isCompact;
 
     public JsonFlashcardListStorage(Path filePath) {
+        this(filePath, null, false);
+    }
+
+    /**
+     * Creates a storage whose loaded flashcards keep their definitions in {@code definitionSegment},
+     * or in memory if it is null, and which saves the file without line breaks and indentation if {@code isCompact}.
+     */
+    public JsonFlashcardListStorage(Path filePath, DefinitionSegment definitionSegment, boolean isCompact) {
         this.filePath = filePath;
+        this.definitionSegment = definitionSegment;
+        this.isCompact = isCompact;
     }
 
     @Override
@@ -32,6 +49,11 @@ public class JsonFlashcardListStorage implements FlashcardStorage {
         return filePath;
     }
 
+    @Override
+    public Path getLastReadFilePath() {
+        return lastReadFilePath;
+    }
+
     @Override
     public Optional<ReadOnlyFlashcardList> readFlashcardList() throws DataConversionException {
         return readFlashcardList(filePath);
@@ -39,25 +61,67 @@ public class JsonFlashcardListStorage implements FlashcardStorage {
 
     /**
      * Similar to {@link #readFlashcardList()}.
+     * The flashcards are read from the file and converted one at a time, so only one is held in its Json form.
+     * If the file is missing or damaged, the previous version of it kept as its backup by the last save is read.
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
     @Override
     public Optional<ReadOnlyFlashcardList> readFlashcardList(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
-        Optional<JsonSerializableFlashcardList> jsonFlashcardList =
-                JsonUtil.readJsonFile(filePath, JsonSerializableFlashcardList.class);
-        if (!jsonFlashcardList.isPresent()) {
-            return Optional.empty();
-        }
+        return JsonUtil.readWithBackup(filePath, this::readSharingValues);
+    }
+
+    /**
+     * Reads the flashcards in the file at {@code filePath}, sharing their values and keeping their definitions
+     * in the definition segment if there is one.
+     */
+    private ReadOnlyFlashcardList readSharingValues(Path filePath) throws DataConversionException {
         try {
-            return Optional.of(jsonFlashcardList.get().toModelType());
+            ValuePool pool = new ValuePool(definitionSegment);
+            FlashcardList flashcardList;
+            try {
+                flashcardList = readFlashcards(filePath, pool);
+            } catch (UncheckedIOException e) {
+                logger.warning("Could not keep definitions on disk, keeping them in memory instead: "
+                    + e.getMessage());
+                pool = new ValuePool();
+                flashcardList = readFlashcards(filePath, pool);
+            }
+            logger.info("Shared repeated values in " + filePath + ", saving about " + pool.getBytesSaved() + " bytes");
+            lastReadFilePath = filePath;
+            return flashcardList;
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException e) {
             logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
             throw new DataConversionException(e);
         }
     }
 
+    /**
+     * Reads the flashcards in the file at {@code filePath} a batch at a time, converting each batch
+     * with a {@code FlashcardListLoader} and sharing their values through {@code pool}.
+     */
+    private static FlashcardList readFlashcards(Path filePath, ValuePool pool)
+            throws IOException, IllegalValueException {
+        FlashcardListLoader loader = new FlashcardListLoader(pool);
+        List<JsonAdaptedFlashcard> batch = new ArrayList<>(FlashcardListLoader.BATCH_SIZE);
+        try (JsonUtil.JsonArrayReader<JsonAdaptedFlashcard> reader = JsonUtil.openJsonArray(filePath,
+                JsonSerializableFlashcardList.FLASHCARDS_FIELD, JsonAdaptedFlashcard.class)) {
+            for (JsonAdaptedFlashcard flashcard = reader.next(); flashcard != null; flashcard = reader.next()) {
+                batch.add(flashcard);
+                if (batch.size() == FlashcardListLoader.BATCH_SIZE) {
+                    loader.addAll(batch);
+                    batch.clear();
+                }
+            }
+        }
+        loader.addAll(batch);
+        return loader.toModelType();
+    }
+
     @Override
     public void saveFlashcardList(ReadOnlyFlashcardList flashcardList) throws IOException {
         saveFlashcardList(flashcardList, filePath);
@@ -65,13 +129,17 @@ public class JsonFlashcardListStorage implements FlashcardStorage {
 
     /**
      * Similar to {@link #saveFlashcardList(ReadOnlyFlashcardList)}.
+     * The flashcards are converted and written to the file one at a time, and the file is replaced
+     * only once all of them have been written.
      * @param filePath location of the data. Cannot be null.
      */
     @Override
     public void saveFlashcardList(ReadOnlyFlashcardList flashcardList, Path filePath) throws IOException {
         requireNonNull(flashcardList);
         requireNonNull(filePath);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableFlashcardList(flashcardList), filePath);
+        Iterable<JsonAdaptedFlashcard> jsonAdaptedFlashcards = () ->
+            flashcardList.getFlashcardList().stream().map(JsonAdaptedFlashcard::new).iterator();
+        JsonUtil.saveJsonArray(filePath, JsonSerializableFlashcardList.FLASHCARDS_FIELD, jsonAdaptedFlashcards,
+            isCompact);
     }
 }
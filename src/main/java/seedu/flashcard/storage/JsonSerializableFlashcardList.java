@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.flashcard.commons.exceptions.IllegalValueException;
 import seedu.flashcard.model.FlashcardList;
 import seedu.flashcard.model.ReadOnlyFlashcardList;
-import seedu.flashcard.model.flashcard.Flashcard;
 
 /**
  * An Immutable FlashcardList that is serializable to JSON format.
@@ -22,13 +21,15 @@ public class JsonSerializableFlashcardList {
     public static final String MESSAGE_DUPLICATE_FLASHCARD = "Flashcards list contains duplicate persons";
     public static final String MESSAGE_ILLEGAL_FLASHCARD = "The Json file provided an illegal flashcard";
 
+    static final String FLASHCARDS_FIELD = "flashcards";
+
     private final List<JsonAdaptedFlashcard> flashcards = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableFlashcardList} with the given flashcards.
      */
     @JsonCreator
-    public JsonSerializableFlashcardList(@JsonProperty("flashcards") List<JsonAdaptedFlashcard> flashcards) {
+    public JsonSerializableFlashcardList(@JsonProperty(FLASHCARDS_FIELD) List<JsonAdaptedFlashcard> flashcards) {
         this.flashcards.addAll(flashcards);
     }
 
@@ -46,18 +47,17 @@ public class JsonSerializableFlashcardList {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public FlashcardList toModelType() throws IllegalValueException {
-        FlashcardList flashcardList = new FlashcardList();
-        for (JsonAdaptedFlashcard jsonAdaptedFlashcard : flashcards) {
-            Flashcard flashcard = jsonAdaptedFlashcard.toModelType();
-            if (!flashcard.isValidFlashcard()) {
-                throw new IllegalValueException(MESSAGE_ILLEGAL_FLASHCARD);
-            }
-            if (flashcardList.hasFlashcard(flashcard)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_FLASHCARD);
-            }
-            flashcardList.addFlashcard(flashcard);
-        }
-        return flashcardList;
+        return toModelType(new ValuePool());
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but shares values repeated across the flashcards through {@code pool}.
+     * The flashcards are converted as {@link FlashcardListLoader} does.
+     */
+    FlashcardList toModelType(ValuePool pool) throws IllegalValueException {
+        FlashcardListLoader loader = new FlashcardListLoader(pool);
+        loader.addAll(flashcards);
+        return loader.toModelType();
     }
 
 }
@@ -0,0 +1,159 @@
+package seedu.flashcard.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.flashcard.commons.exceptions.IllegalValueException;
+import seedu.flashcard.model.ReadOnlyFlashcardList;
+import seedu.flashcard.model.flashcard.DefinitionSegment;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.tag.Tag;
+
+/**
+ * The flashcards of a file written by {@link MappedFlashcardListStorage}, decoded from the mapped file only
+ * when they are asked for. The most recently asked for flashcards are kept decoded.
+ * A flashcard asked for again after it has been dropped is decoded afresh, so the same position may give
+ * equal but distinct flashcards. The file never changes while it is mapped, so neither does the list.
+ */
+class MappedFlashcardList implements ReadOnlyFlashcardList {
+
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private final ByteBuffer file;
+    private final List<Tag> tags;
+    private final int tableOffset;
+    private final int size;
+    private final DefinitionSegment definitionSegment;
+    private final Map<Integer, Flashcard> recentlyRead;
+    private final ObservableList<Flashcard> flashcards = new DecodedList();
+
+    /**
+     * Creates a list of the {@code size} flashcards in {@code file} whose offset table starts at {@code tableOffset},
+     * keeping the last {@code cacheSize} flashcards asked for decoded.
+     * Loaded flashcards keep their definitions in {@code definitionSegment}, or in memory if it is null.
+     */
+    MappedFlashcardList(ByteBuffer file, List<Tag> tags, int tableOffset, int size,
+                        DefinitionSegment definitionSegment, int cacheSize) {
+        this.file = file;
+        this.tags = tags;
+        this.tableOffset = tableOffset;
+        this.size = size;
+        this.definitionSegment = definitionSegment;
+        recentlyRead = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Flashcard> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    @Override
+    public ObservableList<Flashcard> getFlashcardList() {
+        return flashcards;
+    }
+
+    /**
+     * Returns the flashcard at {@code index}, decoding it if it is not among the most recently asked for.
+     *
+     * @throws UncheckedIOException if the flashcard does not match its checksum, or its values are not valid.
+     */
+    synchronized Flashcard getFlashcard(int index) {
+        Objects.checkIndex(index, size);
+        Flashcard flashcard = recentlyRead.get(index);
+        if (flashcard == null) {
+            flashcard = decode(index);
+            recentlyRead.put(index, flashcard);
+        }
+        return flashcard;
+    }
+
+    /**
+     * Checks every flashcard against its checksum, without decoding any of them.
+     *
+     * @throws IllegalValueException if the offset table is damaged, or a flashcard does not match its checksum.
+     */
+    void checkFlashcards() throws IllegalValueException {
+        for (int i = 0; i < size; i++) {
+            checkedBytes(i);
+        }
+    }
+
+    /**
+     * Decodes the flashcard at {@code index}, checking it against its checksum again, as the mapped file
+     * may have been changed on disk since it was opened.
+     */
+    private Flashcard decode(int index) {
+        try {
+            ByteBuffer bytes = checkedBytes(index);
+            Flashcard flashcard = new BinaryFlashcardReader(bytes, new ValuePool(definitionSegment))
+                    .readFlashcard(tags);
+            if (bytes.hasRemaining()) {
+                throw new IllegalValueException("Issue in saved file, there is data after the flashcard.");
+            }
+            return flashcard;
+        } catch (IllegalValueException | BufferUnderflowException | IllegalArgumentException e) {
+            throw new UncheckedIOException(new IOException("Flashcard " + index + " cannot be read", e));
+        }
+    }
+
+    /**
+     * Returns the bytes of the flashcard at {@code index}, which run up to those of the next flashcard,
+     * or to the offset table for the last flashcard, after checking them against their checksum.
+     */
+    private ByteBuffer checkedBytes(int index) throws IllegalValueException {
+        int entry = tableOffset + index * MappedFlashcardListStorage.TABLE_ENTRY_LENGTH;
+        int start = file.getInt(entry);
+        int end = index + 1 < size ? file.getInt(entry + MappedFlashcardListStorage.TABLE_ENTRY_LENGTH) : tableOffset;
+        if (start < MappedFlashcardListStorage.HEADER_LENGTH || start > end || end > tableOffset) {
+            throw new IllegalValueException("Issue in saved file, its offset table is damaged.");
+        }
+        ByteBuffer bytes = file.duplicate().position(start).limit(end);
+        CRC32 crc = new CRC32();
+        crc.update(bytes.duplicate());
+        if ((int) crc.getValue() != file.getInt(entry + Integer.BYTES)) {
+            throw new IllegalValueException("Issue in saved file, flashcard " + index
+                + " does not match its checksum.");
+        }
+        return bytes;
+    }
+
+    /**
+     * The list never changes, so there is nothing to tell listeners.
+     */
+    @Override
+    public void addListener(InvalidationListener listener) {}
+
+    @Override
+    public void removeListener(InvalidationListener listener) {}
+
+    @Override
+    public String toString() {
+        return size + " flashcards";
+    }
+
+    /**
+     * An unmodifiable view of the flashcards in the file, by their positions in it.
+     */
+    private class DecodedList extends ObservableListBase<Flashcard> {
+
+        @Override
+        public Flashcard get(int index) {
+            return getFlashcard(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package seedu.flashcard.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.flashcard.commons.core.LogsCenter;
+import seedu.flashcard.commons.exceptions.DataConversionException;
+import seedu.flashcard.commons.exceptions.IllegalValueException;
+import seedu.flashcard.commons.util.FileUtil;
+import seedu.flashcard.model.ReadOnlyFlashcardList;
+import seedu.flashcard.model.flashcard.DefinitionSegment;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.tag.Tag;
+
+/**
+ * A class to access FlashcardList data stored in a binary file on the hard disk that is mapped into memory,
+ * so that flashcards are only decoded when they are asked for. Opening the file checks every byte of it,
+ * but decodes no flashcard; the model still decodes each of them as it loads the list. The file holds, in order:
+ * <ul>
+ *     <li>the bytes {@code FMMP} and a byte giving the version of the format,</li>
+ *     <li>the flashcards, each as {@link BinaryFlashcardListStorage} writes them,</li>
+ *     <li>the offset table, giving for each flashcard the offset of its first byte and its CRC32 checksum,
+ *     in four bytes each,</li>
+ *     <li>the number of distinct tags, followed by their names,</li>
+ *     <li>the footer, giving the offsets of the offset table and of the tags, the number of flashcards,
+ *     and the CRC32 checksum of the tags and the footer before it, in four bytes each.</li>
+ * </ul>
+ * The footer, the tags and every flashcard's checksum are checked when the file is read, so that a damaged file
+ * is replaced by its backup before any flashcard is loaded. Each flashcard is checked again when it is decoded.
+ * Files are limited to 2 GB, the most a single buffer can map.
+ * Files are written as {@link FileUtil#writeToFileAtomically} does, and read from their backup if damaged.
+ */
+public class MappedFlashcardListStorage implements FlashcardStorage {
+
+    static final int MAGIC = 0x464D4D50;
+    static final byte VERSION = 1;
+    static final int HEADER_LENGTH = 5;
+    static final int TABLE_ENTRY_LENGTH = 2 * Integer.BYTES;
+
+    private static final int FOOTER_LENGTH = 4 * Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedFlashcardListStorage.class);
+
+    private final Path filePath;
+    private final DefinitionSegment definitionSegment;
+    private Path lastReadFilePath = null;
+
+    public MappedFlashcardListStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage whose loaded flashcards keep their definitions in {@code definitionSegment},
+     * or in memory if it is null.
+     */
+    public MappedFlashcardListStorage(Path filePath, DefinitionSegment definitionSegment) {
+        this.filePath = filePath;
+        this.definitionSegment = definitionSegment;
+    }
+
+    @Override
+    public Path getFlashcardListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Path getLastReadFilePath() {
+        return lastReadFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashcardList> readFlashcardList() throws DataConversionException {
+        return readFlashcardList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readFlashcardList()}.
+     * Only the tags are read, and the flashcards checked against their checksums; the flashcards are decoded
+     * from the mapped file as they are asked for, and one whose values turn out not to be valid
+     * then throws {@code UncheckedIOException}.
+     * If the file is missing or damaged, the previous version of it kept as its backup by the last save is read.
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyFlashcardList> readFlashcardList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return FileUtil.readWithBackup(filePath, this::readMapped);
+    }
+
+    /**
+     * Maps the file at {@code filePath} into memory, and returns its flashcards after checking its footer, its tags
+     * and the checksum of every flashcard.
+     */
+    private ReadOnlyFlashcardList readMapped(Path filePath) throws DataConversionException {
+        try (FileChannel channel = FileChannel.open(filePath)) {
+            ByteBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int footerOffset = file.limit() - FOOTER_LENGTH;
+            if (footerOffset < HEADER_LENGTH || file.getInt(0) != MAGIC) {
+                throw new IllegalValueException("Issue in saved file, it is not a mapped flashcard list.");
+            }
+            if (file.get(4) != VERSION) {
+                throw new IllegalValueException("Issue in saved file, format version " + file.get(4)
+                    + " is not supported.");
+            }
+            int tableOffset = file.getInt(footerOffset);
+            int tagsOffset = file.getInt(footerOffset + Integer.BYTES);
+            int size = file.getInt(footerOffset + 2 * Integer.BYTES);
+            if (tagsOffset < HEADER_LENGTH || tagsOffset > footerOffset) {
+                throw new IllegalValueException("Issue in saved file, its footer is damaged.");
+            }
+            CRC32 crc = new CRC32();
+            crc.update(file.duplicate().position(tagsOffset).limit(file.limit() - Integer.BYTES));
+            if ((int) crc.getValue() != file.getInt(file.limit() - Integer.BYTES)) {
+                throw new IllegalValueException("Issue in saved file, it does not match its checksum.");
+            }
+            if (size < 0 || tableOffset < HEADER_LENGTH
+                    || (long) tableOffset + (long) size * TABLE_ENTRY_LENGTH != tagsOffset) {
+                throw new IllegalValueException("Issue in saved file, its offset table is damaged.");
+            }
+            List<Tag> tags = readTags(file.duplicate().position(tagsOffset).limit(footerOffset));
+            MappedFlashcardList flashcardList = new MappedFlashcardList(file, tags, tableOffset, size,
+                definitionSegment, MappedFlashcardList.DEFAULT_CACHE_SIZE);
+            flashcardList.checkFlashcards();
+            lastReadFilePath = filePath;
+            return flashcardList;
+        } catch (IOException e) {
+            logger.warning("Error reading from mapped file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException | BufferUnderflowException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the tags in {@code buffer}, which must hold nothing else.
+     */
+    private static List<Tag> readTags(ByteBuffer buffer) throws IllegalValueException {
+        BinaryFlashcardReader reader = new BinaryFlashcardReader(buffer, new ValuePool());
+        int tagCount = reader.readCount();
+        List<Tag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(reader.readTag());
+        }
+        if (buffer.hasRemaining()) {
+            throw new IllegalValueException("Issue in saved file, there is data after the last tag.");
+        }
+        return tags;
+    }
+
+    @Override
+    public void saveFlashcardList(ReadOnlyFlashcardList flashcardList) throws IOException {
+        saveFlashcardList(flashcardList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveFlashcardList(ReadOnlyFlashcardList)}.
+     * The file is replaced only once all the flashcards have been written.
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveFlashcardList(ReadOnlyFlashcardList flashcardList, Path filePath) throws IOException {
+        requireNonNull(flashcardList);
+        requireNonNull(filePath);
+        List<Flashcard> flashcards = flashcardList.getFlashcardList();
+        Map<Tag, Integer> tagNumbers = new LinkedHashMap<>();
+        for (Flashcard flashcard : flashcards) {
+            for (Tag tag : flashcard.getTags()) {
+                tagNumbers.putIfAbsent(tag, tagNumbers.size());
+            }
+        }
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            BinaryFlashcardWriter writer = new BinaryFlashcardWriter(out);
+            writer.writeInt(MAGIC);
+            writer.writeByte(VERSION);
+            int[] table = new int[flashcards.size() * 2];
+            for (int i = 0; i < flashcards.size(); i++) {
+                table[2 * i] = getOffset(writer);
+                writer.startRecord();
+                writer.writeFlashcard(flashcards.get(i), tagNumbers);
+                table[2 * i + 1] = writer.getRecordChecksum();
+            }
+            int tableOffset = getOffset(writer);
+            for (int entry : table) {
+                writer.writeInt(entry);
+            }
+            int tagsOffset = getOffset(writer);
+            writer.startRecord();
+            writer.writeVarInt(tagNumbers.size());
+            for (Tag tag : tagNumbers.keySet()) {
+                writer.writeString(tag.tagName);
+            }
+            writer.writeInt(tableOffset);
+            writer.writeInt(tagsOffset);
+            writer.writeInt(flashcards.size());
+            writer.writeInt(writer.getRecordChecksum());
+            writer.flush();
+        });
+    }
+
+    /**
+     * Returns the offset in the file of the next byte {@code writer} writes.
+     *
+     * @throws IOException if the file has grown past the size that can be mapped.
+     */
+    private static int getOffset(BinaryFlashcardWriter writer) throws IOException {
+        long offset = writer.getBytesWritten();
+        if (offset > Integer.MAX_VALUE - FOOTER_LENGTH) {
+            throw new IOException("Flashcard list is too large for a mapped file");
+        }
+        return (int) offset;
+    }
+}
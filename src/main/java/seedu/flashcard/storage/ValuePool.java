@@ -0,0 +1,105 @@
+package seedu.flashcard.storage;
+
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import seedu.flashcard.model.flashcard.Answer;
+import seedu.flashcard.model.flashcard.Choice;
+import seedu.flashcard.model.flashcard.Definition;
+import seedu.flashcard.model.flashcard.DefinitionSegment;
+
+/**
+ * Shares identical answers, choices and definitions between the flashcards loaded from one file,
+ * so that a value repeated on many flashcards is kept in memory once.
+ * The text of each value is shared as well, so an answer and the choice it matches hold the same string.
+ * Tags need no pooling, as flashcards keep them as ids from the {@code TagDictionary}.
+ * Definitions are kept in a {@code DefinitionSegment} instead of in memory if the pool is given one.
+ * Flashcards may be loaded through the pool from several threads at once.
+ */
+class ValuePool {
+
+    // Sizes with compressed references: a String with its array header, and an object holding one reference
+    private static final int STRING_BYTES = 24 + 16;
+    private static final int VALUE_BYTES = 16;
+
+    private final Map<String, String> texts = new ConcurrentHashMap<>();
+    private final Map<String, Answer> answers = new ConcurrentHashMap<>();
+    private final Map<String, Choice> choices = new ConcurrentHashMap<>();
+    private final Map<String, Definition> definitions = new ConcurrentHashMap<>();
+    private final DefinitionSegment definitionSegment;
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    /**
+     * Creates a pool that keeps definitions in memory.
+     */
+    ValuePool() {
+        this(null);
+    }
+
+    /**
+     * Creates a pool that adds new definitions to {@code definitionSegment}, or keeps them in memory if it is null.
+     */
+    ValuePool(DefinitionSegment definitionSegment) {
+        this.definitionSegment = definitionSegment;
+    }
+
+    /**
+     * Returns an answer with the text {@code answer}, which must be valid.
+     */
+    Answer getAnswer(String answer) {
+        return share(answers, answer, Answer::new);
+    }
+
+    /**
+     * Returns a choice with the text {@code choice}, which must be valid.
+     */
+    Choice getChoice(String choice) {
+        return share(choices, choice, Choice::new);
+    }
+
+    /**
+     * Returns a definition with the text {@code definition}, which must be valid.
+     *
+     * @throws UncheckedIOException if the definition could not be added to the segment.
+     */
+    Definition getDefinition(String definition) {
+        return share(definitions, definition, definitionSegment == null ? Definition::new : definitionSegment::add);
+    }
+
+    /**
+     * Returns an estimate of the memory, in bytes, that the loaded flashcards would have taken up
+     * if their values were not shared.
+     */
+    long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    /**
+     * Returns the value with the text {@code text} in {@code pool}, adding one made by {@code create} if there is none.
+     * Only one value is ever made for each text, even when several threads ask for it at once.
+     */
+    private <T> T share(Map<String, T> pool, String text, Function<String, T> create) {
+        T value = pool.get(text);
+        if (value != null) {
+            bytesSaved.addAndGet(getBytes(text) + VALUE_BYTES);
+            return value;
+        }
+        String sharedText = texts.putIfAbsent(text, text);
+        if (sharedText == null) {
+            sharedText = text;
+        } else {
+            bytesSaved.addAndGet(getBytes(text));
+        }
+        return pool.computeIfAbsent(sharedText, create);
+    }
+
+    /**
+     * Returns the memory taken up by {@code text}, assuming one byte per character, rounded up to whole words.
+     */
+    private static long getBytes(String text) {
+        return STRING_BYTES + (text.length() + 7) / 8 * 8;
+    }
+}
@@ -42,7 +42,7 @@ public class FlashcardCard extends UiPart<Region> {
         this.flashcard = flashcard;
         id.setText(displayedIndex + ". ");
         question.setText(flashcard.getQuestion().question);
-        definition.setText(flashcard.getDefinition().definition);
+        definition.setText(flashcard.getDefinition().getDefinition());
         flashcard.getTags().stream()
                    .sorted(Comparator.comparing(tag -> tag.tagName))
                    .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
@@ -0,0 +1,31 @@
+package seedu.flashcard.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class FlashcardListFormatTest {
+
+    @Test
+    public void fromFilePath() {
+        assertEquals(FlashcardListFormat.BINARY, FlashcardListFormat.fromFilePath(Paths.get("data", "a.deck")));
+        assertEquals(FlashcardListFormat.MAPPED, FlashcardListFormat.fromFilePath(Paths.get("data", "a.fmap")));
+        assertEquals(FlashcardListFormat.JSON, FlashcardListFormat.fromFilePath(Paths.get("data", "a.json")));
+        assertEquals(FlashcardListFormat.JSON, FlashcardListFormat.fromFilePath(Paths.get("data", "a")));
+    }
+
+    @Test
+    public void toFilePath() {
+        // extension of another format -> replaced
+        assertEquals(Paths.get("data", "a.deck"), FlashcardListFormat.BINARY.toFilePath(Paths.get("data", "a.json")));
+        assertEquals(Paths.get("data", "a.json"), FlashcardListFormat.JSON.toFilePath(Paths.get("data", "a.deck")));
+
+        // no extension -> added
+        assertEquals(Paths.get("data", "a.deck"), FlashcardListFormat.BINARY.toFilePath(Paths.get("data", "a")));
+
+        // already in the format -> unchanged
+        assertEquals(Paths.get("data", "a.txt"), FlashcardListFormat.JSON.toFilePath(Paths.get("data", "a.txt")));
+    }
+}
@@ -89,6 +89,29 @@ public class ConfigUtilTest {
         assertEquals(original, readBack);
     }
 
+    @Test
+    public void saveConfig_config_noChecksumWritten() throws IOException {
+        Path configFilePath = tempDir.resolve("TempConfig.json");
+
+        ConfigUtil.saveConfig(getTypicalConfig(), configFilePath);
+
+        assertEquals(JsonUtil.toJsonString(getTypicalConfig()), FileUtil.readFromFile(configFilePath));
+    }
+
+    @Test
+    public void readConfig_editedByHandWithStaleChecksum_readAsEdited() throws DataConversionException, IOException {
+        Path configFilePath = tempDir.resolve("TempConfig.json");
+        ConfigUtil.saveConfig(new Config(), configFilePath);
+        ConfigUtil.saveConfig(new Config(), configFilePath);
+        Config edited = getTypicalConfig();
+        edited.setLogLevel(Level.FINE);
+
+        FileUtil.writeToFile(configFilePath, JsonUtil.toJsonString(edited)
+            + "\n// crc32 00000000: delete this line after editing the file by hand\n");
+
+        assertEquals(edited, ConfigUtil.readConfig(configFilePath).get());
+    }
+
     private Config getTypicalConfig() {
         Config config = new Config();
         config.setLogLevel(Level.INFO);
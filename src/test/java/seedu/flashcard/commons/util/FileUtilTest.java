@@ -1,13 +1,23 @@
 package seedu.flashcard.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashcard.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -19,4 +29,31 @@ public class FileUtilTest {
         // null path -> throws NullPointerException
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
+
+    @Test
+    public void writeToFileAtomically_existingFile_replacedAndPreviousKeptAsBackup() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, out -> out.write("first".getBytes()));
+        FileUtil.writeToFileAtomically(file, out -> out.write("second".getBytes()));
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "first");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("sec".getBytes());
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
 }
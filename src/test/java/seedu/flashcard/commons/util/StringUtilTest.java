@@ -1,10 +1,13 @@
 package seedu.flashcard.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashcard.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
@@ -75,6 +78,41 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    @Test
+    public void getFoldedWords_validInputs_correctResult() {
+        assertTrue(StringUtil.getFoldedWords("   ").isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList("aaa", "bbb", "ccc@1")),
+            StringUtil.getFoldedWords("  AAA   bBb ccc@1 bbb "));
+    }
+
+    @Test
+    public void foldCase_wordsEqualIgnoringCase_sameResult() {
+        assertEquals(StringUtil.foldCase("bBb"), StringUtil.foldCase("BBB"));
+        assertEquals(StringUtil.foldCase("\u0130"), StringUtil.foldCase("i"));
+        assertFalse(StringUtil.foldCase("bb").equals(StringUtil.foldCase("bbb")));
+    }
+
+    @Test
+    public void isWithinEditDistance_validInputs_correctResult() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.isWithinEditDistance("a", "a", -1));
+        assertTrue(StringUtil.isWithinEditDistance("", "", 0));
+        assertTrue(StringUtil.isWithinEditDistance("algorithm", "algorithm", 0));
+        assertFalse(StringUtil.isWithinEditDistance("algorithm", "algoritm", 0));
+
+        // insertion, deletion and substitution
+        assertTrue(StringUtil.isWithinEditDistance("algoritm", "algorithm", 1));
+        assertTrue(StringUtil.isWithinEditDistance("algorithms", "algorithm", 1));
+        assertTrue(StringUtil.isWithinEditDistance("algorythm", "algorithm", 1));
+
+        // transposition takes two edits
+        assertFalse(StringUtil.isWithinEditDistance("algorihtm", "algorithm", 1));
+        assertTrue(StringUtil.isWithinEditDistance("algorihtm", "algorithm", 2));
+
+        // lengths too far apart
+        assertFalse(StringUtil.isWithinEditDistance("algo", "algorithm", 2));
+        assertTrue(StringUtil.isWithinEditDistance("", "abc", 3));
+    }
+
     @Test
     public void getDetails_exceptionGiven() {
         assertTrue(StringUtil.getDetails(new FileNotFoundException("file not found"))
@@ -4,8 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.flashcard.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.flashcard.logic.commands.DeleteCommand.MESSAGE_INVALID_FLASHCARD_INDEX;
 import static seedu.flashcard.testutil.Assert.assertThrows;
+import static seedu.flashcard.testutil.TypicalFlashcard.BANANA;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,12 +21,15 @@ import seedu.flashcard.logic.commands.exceptions.CommandException;
 import seedu.flashcard.logic.parser.exceptions.ParseException;
 import seedu.flashcard.model.Model;
 import seedu.flashcard.model.ModelManager;
+import seedu.flashcard.model.ReadOnlyFlashcardList;
 import seedu.flashcard.model.UserPrefs;
 import seedu.flashcard.storage.JsonFlashcardListStorage;
 import seedu.flashcard.storage.JsonUserPrefsStorage;
 import seedu.flashcard.storage.StorageManager;
+import seedu.flashcard.testutil.FlashcardUtil;
 
 public class LogicManagerTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
 
     @TempDir
     public Path temporaryFolder;
@@ -57,6 +64,32 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_modifyingCommand_savedAfterFlush() throws Exception {
+        logic.execute(FlashcardUtil.getAddCommand(BANANA));
+        logic.flushSaves();
+
+        ReadOnlyFlashcardList saved =
+            new JsonFlashcardListStorage(temporaryFolder.resolve("flashcardlist.json")).readFlashcardList().get();
+        assertEquals(List.of(BANANA), saved.getFlashcardList());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_failureReported() throws Exception {
+        JsonFlashcardListStorage flashcardListStorage =
+            new JsonFlashcardListIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionFlashcardList.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+            new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(flashcardListStorage, userPrefsStorage));
+        List<String> failures = new ArrayList<>();
+        logic.setSaveFailureHandler(failures::add);
+
+        logic.execute(FlashcardUtil.getAddCommand(BANANA));
+        logic.flushSaves();
+
+        assertEquals(List.of(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION), failures);
+    }
+
     @Test
     public void getFilteredFlashcardList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredFlashcardList().remove(0));
@@ -114,4 +147,18 @@ public class LogicManagerTest {
         assertThrows(expectedException, expectedMessage, () -> logic.execute(inputCommand));
         assertEquals(expectedModel, model);
     }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class JsonFlashcardListIoExceptionThrowingStub extends JsonFlashcardListStorage {
+        private JsonFlashcardListIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveFlashcardList(ReadOnlyFlashcardList flashcardList, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
 }
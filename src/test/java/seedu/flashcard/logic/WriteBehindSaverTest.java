@@ -0,0 +1,115 @@
+package seedu.flashcard.logic;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.flashcard.testutil.TypicalFlashcard.APPLE;
+import static seedu.flashcard.testutil.TypicalFlashcard.BANANA;
+import static seedu.flashcard.testutil.TypicalFlashcard.MOUNT_BLANC;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashcard.model.FlashcardList;
+import seedu.flashcard.model.ReadOnlyFlashcardList;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.storage.StorageManager;
+
+public class WriteBehindSaverTest {
+
+    @Test
+    public void save_whileAnotherIsWritten_savesLatestSnapshotOnce() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveAllowed = new CountDownLatch(1);
+        List<List<Flashcard>> saved = new CopyOnWriteArrayList<>();
+        FlashcardList flashcardList = new FlashcardList();
+        WriteBehindSaver saver = new WriteBehindSaver(new StorageManager(null, null) {
+            @Override
+            public void saveFlashcardList(ReadOnlyFlashcardList flashcardList) {
+                saved.add(List.copyOf(flashcardList.getFlashcardList()));
+                firstSaveStarted.countDown();
+                try {
+                    firstSaveAllowed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, flashcardList);
+
+        flashcardList.addFlashcard(APPLE);
+        saver.save();
+        firstSaveStarted.await();
+        flashcardList.addFlashcard(BANANA);
+        saver.save();
+        flashcardList.addFlashcard(MOUNT_BLANC);
+        saver.save();
+        flashcardList.removeFlashcard(APPLE);
+        firstSaveAllowed.countDown();
+        saver.flush();
+
+        assertEquals(List.of(List.of(APPLE), List.of(APPLE, BANANA, MOUNT_BLANC)), saved);
+    }
+
+    @Test
+    public void save_flashcardsReviewed_reviewedPositionsReportedUntilWritten() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveAllowed = new CountDownLatch(1);
+        List<int[]> reviewedPositions = new CopyOnWriteArrayList<>();
+        FlashcardList flashcardList = new FlashcardList();
+        flashcardList.addFlashcard(MOUNT_BLANC);
+        flashcardList.addFlashcard(APPLE);
+        flashcardList.addFlashcard(BANANA);
+        WriteBehindSaver saver = new WriteBehindSaver(new StorageManager(null, null) {
+            @Override
+            public void saveFlashcardList(ReadOnlyFlashcardList flashcardList) {
+                reviewedPositions.add(flashcardList.getReviewedPositions());
+                firstSaveStarted.countDown();
+                try {
+                    firstSaveAllowed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, flashcardList);
+
+        flashcardList.indicateFlashcardReviewed(BANANA);
+        saver.save();
+        firstSaveStarted.await();
+        flashcardList.indicateFlashcardReviewed(APPLE);
+        saver.save();
+        // The save above is coalesced with the next one, which reports the review at the flashcard's new position
+        flashcardList.removeFlashcard(MOUNT_BLANC);
+        saver.save();
+        firstSaveAllowed.countDown();
+        saver.flush();
+        saver.save();
+        saver.flush();
+
+        assertEquals(3, reviewedPositions.size());
+        assertArrayEquals(new int[] {2}, reviewedPositions.get(0));
+        assertArrayEquals(new int[] {0}, reviewedPositions.get(1));
+        assertArrayEquals(new int[0], reviewedPositions.get(2));
+    }
+
+    @Test
+    public void save_storageThrowsUncheckedException_failureReported() {
+        IOException cause = new IOException("Damaged definition file");
+        WriteBehindSaver saver = new WriteBehindSaver(new StorageManager(null, null) {
+            @Override
+            public void saveFlashcardList(ReadOnlyFlashcardList flashcardList) {
+                throw new UncheckedIOException(cause);
+            }
+        }, new FlashcardList());
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        saver.setFailureHandler(failures::add);
+
+        saver.save();
+        saver.flush();
+
+        assertEquals(List.of(cause), failures);
+    }
+}
@@ -97,6 +97,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Flashcard> getContainsAnyKeywordPredicate(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Set<Tag> getAllSystemTags() {
             throw new AssertionError("This method should not be called.");
@@ -193,7 +198,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public String generateStatistics() {
+        public String generateStatistics(Set<Tag> tags) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -217,6 +222,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Flashcard> getDueFlashcards() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void reviewFlashcard(Flashcard flashcard, int quality) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Flashcard> getWeakFlashcardSample() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoFlashcardList() {
             throw new AssertionError("This method should not be called.");
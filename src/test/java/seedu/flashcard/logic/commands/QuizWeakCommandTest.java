@@ -0,0 +1,59 @@
+package seedu.flashcard.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashcard.logic.commands.CommandTestUtil.VALID_TAG_CIVIL_ENGINEERING;
+import static seedu.flashcard.logic.commands.CommandTestUtil.VALID_TAG_LONG;
+import static seedu.flashcard.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.flashcard.testutil.TypicalFlashcard.getTypicalFlashcardList;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashcard.logic.CommandHistory;
+import seedu.flashcard.model.Model;
+import seedu.flashcard.model.ModelManager;
+import seedu.flashcard.model.UserPrefs;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.tag.Tag;
+
+public class QuizWeakCommandTest {
+
+    private Model model = new ModelManager(getTypicalFlashcardList(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_validTagWithCards_quizzesFlashcardsWithTag() throws Exception {
+        Tag testTag = new Tag(VALID_TAG_CIVIL_ENGINEERING);
+        Set<Tag> testTagSet = Collections.singleton(testTag);
+
+        CommandResult result = new QuizWeakCommand(testTagSet, 1).execute(model, commandHistory);
+
+        assertEquals(QuizWeakCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(model.getFilteredFlashcardList().size(), model.getQuiz().getQuizableFlashcards().size());
+        for (Flashcard flashcard : model.getQuiz().getQuizableFlashcards()) {
+            assertTrue(flashcard.hasTag(testTag));
+        }
+    }
+
+    @Test
+    public void execute_noTags_quizzesAllFlashcards() throws Exception {
+        new QuizWeakCommand(Collections.emptySet(), null).execute(model, commandHistory);
+
+        assertEquals(model.getFlashcardList().getFlashcardList().size(), model.getQuiz().totalCardsProperty().get());
+    }
+
+    @Test
+    public void execute_validTagWithNoCards_throwsCommandException() {
+        Set<Tag> testTagSet = Collections.singleton(new Tag(VALID_TAG_LONG));
+        QuizWeakCommand quizWeakCommand = new QuizWeakCommand(testTagSet, 1);
+
+        Model expectedModel = new ModelManager(model.getFlashcardList(), new UserPrefs());
+        expectedModel.updateFilteredFlashcardList(expectedModel.getHasTagPredicate(testTagSet));
+
+        assertCommandFailure(quizWeakCommand, model, QuizWeakCommand.MESSAGE_NO_FLASHCARDS, expectedModel,
+                commandHistory);
+    }
+}
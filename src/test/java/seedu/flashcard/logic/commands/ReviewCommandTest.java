@@ -0,0 +1,65 @@
+package seedu.flashcard.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashcard.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.flashcard.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashcard.logic.CommandHistory;
+import seedu.flashcard.model.FlashcardList;
+import seedu.flashcard.model.Model;
+import seedu.flashcard.model.ModelManager;
+import seedu.flashcard.model.UserPrefs;
+import seedu.flashcard.model.flashcard.Answer;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.Schedule;
+import seedu.flashcard.testutil.FlashcardBuilder;
+
+public class ReviewCommandTest {
+
+    private final Flashcard overdue = new FlashcardBuilder().withQuestion("How high is Mount Everest?")
+        .withAnswer("8848 metres").withSchedule(new Schedule(2, 6, 2.5, 1000)).buildShortAnswerFlashcard();
+    private final Flashcard unseen = new FlashcardBuilder().withQuestion("How long is the Nile?")
+        .withAnswer("6650 kilometres").buildShortAnswerFlashcard();
+    private final Flashcard notDue = new FlashcardBuilder().withQuestion("How long is the Gotthard Tunnel?")
+        .withSchedule(new Schedule(3, 15, 2.5, Long.MAX_VALUE)).buildShortAnswerFlashcard();
+    private final CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_dueFlashcards_quizzesDueFlashcardsOnly() throws Exception {
+        Model model = modelWith(notDue, unseen, overdue);
+
+        assertCommandSuccess(new ReviewCommand(null), model, commandHistory,
+            new CommandResult(String.format(ReviewCommand.MESSAGE_SUCCESS, 2), true, unseen.toString()), model);
+        assertEquals(List.of(unseen, overdue), model.getQuiz().getQuizableFlashcards());
+
+        new FlipCommand(new Answer("6650 kilometres")).execute(model, commandHistory);
+        new SkipCommand().execute(model, commandHistory);
+
+        assertTrue(model.getQuiz().isEmpty());
+        assertEquals(List.of(), model.getDueFlashcards());
+        assertEquals(1, unseen.getSchedule().getRepetitions());
+        assertEquals(0, overdue.getSchedule().getRepetitions());
+        assertFalse(overdue.getSchedule().isDue(System.currentTimeMillis()));
+    }
+
+    @Test
+    public void execute_noDueFlashcards_throwsCommandException() {
+        Model model = modelWith(notDue);
+        Model expectedModel = modelWith(notDue);
+
+        assertCommandFailure(new ReviewCommand(null), model, ReviewCommand.MESSAGE_NO_DUE_FLASHCARDS,
+            expectedModel, commandHistory);
+    }
+
+    private static Model modelWith(Flashcard... flashcards) {
+        FlashcardList flashcardList = new FlashcardList();
+        flashcardList.setFlashcards(List.of(flashcards));
+        return new ModelManager(flashcardList, new UserPrefs());
+    }
+}
@@ -44,7 +44,7 @@ public class StatsCommandTest {
         expectedModel.updateFilteredFlashcardList(model.getHasTagPredicate(testTags));
         assertCommandSuccess(new StatsCommand(testTags), model,
                 commandHistory,
-                new CommandResult(expectedModel.generateStatistics(), false, false, true), expectedModel);
+                new CommandResult(expectedModel.generateStatistics(testTags), false, false, true), expectedModel);
     }
 
     @Test
@@ -53,14 +53,14 @@ public class StatsCommandTest {
         expectedModel.updateFilteredFlashcardList(model.getHasTagPredicate(testTags));
         assertCommandSuccess(new StatsCommand(testTags), model,
                 commandHistory,
-                new CommandResult(expectedModel.generateStatistics(), false, false, true), expectedModel);
+                new CommandResult(expectedModel.generateStatistics(testTags), false, false, true), expectedModel);
     }
 
     @Test
     public void execute_listIsNotFilteredAndNoTags_showsEverything() {
         assertCommandSuccess(new StatsCommand(null), model,
                 commandHistory,
-                new CommandResult(expectedModel.generateStatistics(), false, false, true), expectedModel);
+                new CommandResult(expectedModel.generateStatistics(null), false, false, true), expectedModel);
     }
 
 
@@ -69,7 +69,7 @@ public class StatsCommandTest {
         showFlashcardAtIndex(model, INDEX_FIRST_FLASHCARD);
         assertCommandSuccess(new StatsCommand(null), model,
                 commandHistory,
-                new CommandResult(expectedModel.generateStatistics(), false, false, true), expectedModel);
+                new CommandResult(expectedModel.generateStatistics(null), false, false, true), expectedModel);
     }
 
     @Test
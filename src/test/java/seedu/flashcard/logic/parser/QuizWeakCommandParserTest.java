@@ -0,0 +1,33 @@
+package seedu.flashcard.logic.parser;
+
+import static seedu.flashcard.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.flashcard.logic.commands.CommandTestUtil.VALID_TAG_ROUND;
+import static seedu.flashcard.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.flashcard.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.flashcard.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.flashcard.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashcard.logic.commands.QuizWeakCommand;
+import seedu.flashcard.model.tag.Tag;
+
+public class QuizWeakCommandParserTest {
+
+    private QuizWeakCommandParser parser = new QuizWeakCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsQuizWeakCommand() {
+        assertParseSuccess(parser, "", new QuizWeakCommand(Collections.emptySet(), null));
+        assertParseSuccess(parser, " " + PREFIX_TAG + VALID_TAG_ROUND + " " + PREFIX_DURATION + "30",
+                new QuizWeakCommand(Collections.singleton(new Tag(VALID_TAG_ROUND)), 30));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "geography",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT + QuizWeakCommand.MESSAGE_USAGE));
+    }
+}
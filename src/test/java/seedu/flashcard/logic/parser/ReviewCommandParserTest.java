@@ -0,0 +1,27 @@
+package seedu.flashcard.logic.parser;
+
+import static seedu.flashcard.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.flashcard.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.flashcard.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.flashcard.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashcard.logic.commands.ReviewCommand;
+
+public class ReviewCommandParserTest {
+
+    private ReviewCommandParser parser = new ReviewCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsReviewCommand() {
+        assertParseSuccess(parser, "", new ReviewCommand(null));
+        assertParseSuccess(parser, " " + PREFIX_DURATION + "30", new ReviewCommand(30));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "geography",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT + ReviewCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.flashcard.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashcard.testutil.Assert.assertThrows;
+import static seedu.flashcard.testutil.TypicalFlashcard.APPLE;
+import static seedu.flashcard.testutil.TypicalFlashcard.BANANA;
+import static seedu.flashcard.testutil.TypicalFlashcard.CHANGI_AIRPORT;
+import static seedu.flashcard.testutil.TypicalFlashcard.MOUNT_BLANC;
+import static seedu.flashcard.testutil.TypicalFlashcard.TOKYO_AIRPORT;
+import static seedu.flashcard.testutil.TypicalFlashcard.getTypicalFlashcardList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.exceptions.DuplicateCardException;
+import seedu.flashcard.model.tag.Tag;
+
+public class FlashcardListTest {
+
+    private final FlashcardList flashcardList = getTypicalFlashcardList();
+
+    @Test
+    public void batch_nullChanges_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> flashcardList.batch(null));
+    }
+
+    @Test
+    public void batch_severalModifications_notifiesOnce() {
+        int[] invalidationCount = {0};
+        int[] changeCount = {0};
+        flashcardList.addListener(observable -> invalidationCount[0]++);
+        flashcardList.getFlashcardList().addListener((ListChangeListener<Flashcard>) change -> changeCount[0]++);
+
+        flashcardList.batch(list -> {
+            list.addFlashcard(APPLE);
+            list.addFlashcard(BANANA);
+            list.removeFlashcard(MOUNT_BLANC);
+            list.flashcardsRemoveTag(new Tag("Civil Engineering"));
+        });
+
+        assertEquals(1, invalidationCount[0]);
+        assertEquals(1, changeCount[0]);
+        assertTrue(flashcardList.hasFlashcard(APPLE));
+        assertTrue(flashcardList.hasFlashcard(BANANA));
+        assertFalse(flashcardList.hasFlashcard(MOUNT_BLANC));
+        assertFalse(flashcardList.flashcardsHasTag(new Tag("Civil Engineering")));
+    }
+
+    @Test
+    public void batch_nestedBatches_notifiesOnce() {
+        int[] invalidationCount = {0};
+        flashcardList.addListener(observable -> invalidationCount[0]++);
+
+        flashcardList.batch(list -> {
+            list.addFlashcard(APPLE);
+            list.batch(inner -> inner.addFlashcard(BANANA));
+        });
+
+        assertEquals(1, invalidationCount[0]);
+        assertTrue(flashcardList.hasFlashcard(BANANA));
+    }
+
+    @Test
+    public void batch_modificationFails_rollsBackAndDoesNotNotify() {
+        List<Flashcard> before = new ArrayList<>(flashcardList.getFlashcardList());
+        int[] invalidationCount = {0};
+        flashcardList.addListener(observable -> invalidationCount[0]++);
+
+        assertThrows(DuplicateCardException.class, () -> flashcardList.batch(list -> {
+            list.addFlashcard(APPLE);
+            list.removeFlashcard(MOUNT_BLANC);
+            list.flashcardsRemoveTag(new Tag("Civil Engineering"));
+            list.addFlashcard(CHANGI_AIRPORT);
+        }));
+
+        assertEquals(before, flashcardList.getFlashcardList());
+        assertEquals(0, invalidationCount[0]);
+        assertFalse(flashcardList.hasFlashcard(APPLE));
+        assertTrue(flashcardList.hasFlashcard(MOUNT_BLANC));
+        assertTrue(flashcardList.flashcardsHasTag(new Tag("Civil Engineering")));
+    }
+
+    @Test
+    public void batch_modificationFails_listenersSeeRolledBackIndexes() {
+        List<Boolean> seenInIndexes = new ArrayList<>();
+        flashcardList.getFlashcardList().addListener((ListChangeListener<Flashcard>) change -> {
+            seenInIndexes.add(flashcardList.hasFlashcard(APPLE));
+            seenInIndexes.add(!flashcardList.hasFlashcard(MOUNT_BLANC));
+            seenInIndexes.add(!flashcardList.flashcardsHasTag(new Tag("Civil Engineering")));
+        });
+
+        assertThrows(DuplicateCardException.class, () -> flashcardList.batch(list -> {
+            list.addFlashcard(APPLE);
+            list.removeFlashcard(MOUNT_BLANC);
+            list.flashcardsRemoveTag(new Tag("Civil Engineering"));
+            list.addFlashcard(CHANGI_AIRPORT);
+        }));
+
+        assertFalse(seenInIndexes.isEmpty());
+        assertFalse(seenInIndexes.contains(true));
+    }
+
+    @Test
+    public void flashcardsRemoveTag_someFlashcardsTagged_replacesOnlyTaggedFlashcardsInOneChange() {
+        FlashcardList flashcardList = new FlashcardList();
+        flashcardList.setFlashcards(Arrays.asList(MOUNT_BLANC, TOKYO_AIRPORT, CHANGI_AIRPORT));
+        List<Flashcard> replaced = new ArrayList<>();
+        int[] invalidationCount = {0};
+        int[] changeCount = {0};
+        flashcardList.addListener(observable -> invalidationCount[0]++);
+        flashcardList.getFlashcardList().addListener((ListChangeListener<Flashcard>) change -> {
+            changeCount[0]++;
+            while (change.next()) {
+                replaced.addAll(change.getRemoved());
+            }
+        });
+
+        flashcardList.flashcardsRemoveTag(new Tag("Civil Engineering"));
+
+        assertEquals(1, invalidationCount[0]);
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(MOUNT_BLANC, CHANGI_AIRPORT), replaced);
+        assertSame(TOKYO_AIRPORT, flashcardList.getFlashcardList().get(1));
+        assertTrue(MOUNT_BLANC.hasTag(new Tag("Civil Engineering")));
+        assertFalse(flashcardList.getFlashcardList().get(0).hasTag(new Tag("Civil Engineering")));
+        assertFalse(flashcardList.flashcardsHasTag(new Tag("Civil Engineering")));
+        assertTrue(flashcardList.getFlashcardsWithAnyTag(Collections.singleton(new Tag("Civil Engineering")))
+            .isEmpty());
+    }
+
+    @Test
+    public void flashcardsRemoveTag_tagAbsent_noChange() {
+        int[] invalidationCount = {0};
+        int[] changeCount = {0};
+        flashcardList.addListener(observable -> invalidationCount[0]++);
+        flashcardList.getFlashcardList().addListener((ListChangeListener<Flashcard>) change -> changeCount[0]++);
+
+        flashcardList.flashcardsRemoveTag(new Tag("Unused"));
+
+        assertEquals(0, invalidationCount[0]);
+        assertEquals(0, changeCount[0]);
+    }
+
+    @Test
+    public void indicateFlashcardReviewed_flashcardInList_updateReportedAtItsPosition() {
+        Flashcard reviewed = flashcardList.getFlashcardList().get(1);
+        int[] invalidationCount = {0};
+        List<Integer> updatedPositions = new ArrayList<>();
+        flashcardList.addListener(observable -> invalidationCount[0]++);
+        flashcardList.getFlashcardList().addListener((ListChangeListener<Flashcard>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasUpdated());
+                updatedPositions.add(change.getFrom());
+            }
+        });
+
+        flashcardList.indicateFlashcardReviewed(reviewed);
+
+        assertEquals(1, invalidationCount[0]);
+        assertEquals(List.of(1), updatedPositions);
+    }
+
+    @Test
+    public void indicateFlashcardReviewed_flashcardNotInList_noListChange() {
+        int[] changeCount = {0};
+        flashcardList.getFlashcardList().addListener((ListChangeListener<Flashcard>) change -> changeCount[0]++);
+
+        flashcardList.indicateFlashcardReviewed(APPLE);
+
+        assertEquals(0, changeCount[0]);
+    }
+}
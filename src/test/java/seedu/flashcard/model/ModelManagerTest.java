@@ -4,14 +4,27 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashcard.testutil.Assert.assertThrows;
+import static seedu.flashcard.testutil.TypicalFlashcard.CHANGI_AIRPORT;
 import static seedu.flashcard.testutil.TypicalFlashcard.MOUNT_BLANC;
+import static seedu.flashcard.testutil.TypicalFlashcard.TOKYO_AIRPORT;
+import static seedu.flashcard.testutil.TypicalFlashcard.getTypicalFlashcardList;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.flashcard.commons.core.GuiSettings;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.FlashcardContainsKeywordsPredicate;
+import seedu.flashcard.model.tag.Tag;
+import seedu.flashcard.testutil.FlashcardBuilder;
 
 public class ModelManagerTest {
 
@@ -87,4 +100,81 @@ public class ModelManagerTest {
     public void getFilteredFlashcardList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredFlashcardList().remove(0));
     }
+
+    @Test
+    public void getContainsAnyKeywordPredicate_keywords_matchesKeywordsPredicate() {
+        ModelManager typicalModelManager = new ModelManager(getTypicalFlashcardList(), new UserPrefs());
+        List<List<String>> keywordLists = Arrays.asList(Collections.singletonList("AIRPORT"),
+                Arrays.asList("tunnel", "2"), Arrays.asList("airport?", "Singapore"), Collections.singletonList("Air"));
+        for (List<String> keywords : keywordLists) {
+            Predicate<Flashcard> indexedPredicate = typicalModelManager.getContainsAnyKeywordPredicate(keywords);
+            FlashcardContainsKeywordsPredicate scanningPredicate = new FlashcardContainsKeywordsPredicate(keywords);
+            for (Flashcard flashcard : typicalModelManager.getFlashcardList().getFlashcardList()) {
+                assertEquals(scanningPredicate.test(flashcard), indexedPredicate.test(flashcard));
+            }
+        }
+    }
+
+    @Test
+    public void getHasTagPredicate_taggedFlashcardAddedWhileFiltered_shown() {
+        ModelManager typicalModelManager = new ModelManager(getTypicalFlashcardList(), new UserPrefs());
+        typicalModelManager.deleteFlashcard(CHANGI_AIRPORT);
+        typicalModelManager.commitFlashcardList();
+        typicalModelManager.updateFilteredFlashcardList(
+                typicalModelManager.getHasTagPredicate(Collections.singleton(new Tag("Civil Engineering"))));
+        assertFalse(typicalModelManager.getFilteredFlashcardList().contains(CHANGI_AIRPORT));
+
+        // Undoing the deletion adds the flashcard back while the filter is on
+        typicalModelManager.undoFlashcardList();
+
+        assertTrue(typicalModelManager.getFilteredFlashcardList().contains(CHANGI_AIRPORT));
+    }
+
+    @Test
+    public void getHasTagPredicate_flashcardTaggedWhileFiltered_shown() {
+        ModelManager typicalModelManager = new ModelManager(getTypicalFlashcardList(), new UserPrefs());
+        typicalModelManager.updateFilteredFlashcardList(
+                typicalModelManager.getHasTagPredicate(Collections.singleton(new Tag("Civil Engineering"))));
+        Flashcard taggedTokyoAirport = new FlashcardBuilder(TOKYO_AIRPORT).withTag("Civil Engineering")
+                .buildShortAnswerFlashcard();
+
+        typicalModelManager.setFlashcard(TOKYO_AIRPORT, taggedTokyoAirport);
+
+        assertTrue(typicalModelManager.getFilteredFlashcardList().contains(taggedTokyoAirport));
+        assertEquals(4, typicalModelManager.getFilteredFlashcardList().size());
+    }
+
+    @Test
+    public void getContainsAnyKeywordPredicate_flashcardEditedToMatchWhileFiltered_shown() {
+        ModelManager typicalModelManager = new ModelManager(getTypicalFlashcardList(), new UserPrefs());
+        typicalModelManager.updateFilteredFlashcardList(
+                typicalModelManager.getContainsAnyKeywordPredicate(Collections.singletonList("Narita")));
+        assertTrue(typicalModelManager.getFilteredFlashcardList().isEmpty());
+        Flashcard editedTokyoAirport = new FlashcardBuilder(TOKYO_AIRPORT).withDefinition("Narita and Haneda")
+                .buildShortAnswerFlashcard();
+
+        typicalModelManager.setFlashcard(TOKYO_AIRPORT, editedTokyoAirport);
+
+        assertEquals(Collections.singletonList(editedTokyoAirport), typicalModelManager.getFilteredFlashcardList());
+    }
+
+    @Test
+    public void reviewFlashcard_filteredByTag_onlyUpdatesReviewedFlashcard() {
+        ModelManager typicalModelManager = new ModelManager(getTypicalFlashcardList(), new UserPrefs());
+        typicalModelManager.updateFilteredFlashcardList(
+                typicalModelManager.getHasTagPredicate(Collections.singleton(new Tag("Civil Engineering"))));
+        Flashcard reviewed = typicalModelManager.getFilteredFlashcardList().get(0);
+        List<Flashcard> filteredBefore = new ArrayList<>(typicalModelManager.getFilteredFlashcardList());
+        List<Boolean> wereUpdates = new ArrayList<>();
+        typicalModelManager.getFilteredFlashcardList().addListener((ListChangeListener<Flashcard>) change -> {
+            while (change.next()) {
+                wereUpdates.add(change.wasUpdated());
+            }
+        });
+
+        typicalModelManager.reviewFlashcard(reviewed, 5);
+
+        assertEquals(Collections.singletonList(true), wereUpdates);
+        assertEquals(filteredBefore, typicalModelManager.getFilteredFlashcardList());
+    }
 }
@@ -0,0 +1,107 @@
+package seedu.flashcard.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashcard.testutil.Assert.assertThrows;
+import static seedu.flashcard.testutil.TypicalFlashcard.APPLE;
+import static seedu.flashcard.testutil.TypicalFlashcard.BANANA;
+import static seedu.flashcard.testutil.TypicalFlashcard.CHANGI_AIRPORT;
+import static seedu.flashcard.testutil.TypicalFlashcard.DAXING_AIRPORT;
+import static seedu.flashcard.testutil.TypicalFlashcard.MOUNT_BLANC;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.exceptions.CardNotFoundException;
+import seedu.flashcard.testutil.FlashcardBuilder;
+
+public class QuizTest {
+
+    private final Quiz quiz = new Quiz();
+
+    @Test
+    public void discardFirstCard_untilEmpty_walksListInOrder() {
+        List<Flashcard> flashcards = Arrays.asList(APPLE, BANANA, MOUNT_BLANC);
+        quiz.setQuizList(flashcards);
+
+        for (Flashcard flashcard : flashcards) {
+            assertEquals(flashcard, quiz.quizCard());
+            quiz.discardFirstCard();
+        }
+
+        assertTrue(quiz.isEmpty());
+        assertEquals(List.of(), quiz.getQuizableFlashcards());
+        assertEquals(Arrays.asList(APPLE, BANANA, MOUNT_BLANC), flashcards);
+        assertThrows(CardNotFoundException.class, quiz::quizCard);
+        assertThrows(CardNotFoundException.class, quiz::discardFirstCard);
+    }
+
+    @Test
+    public void quizCard_afterDiscard_updatesCounts() {
+        quiz.setQuizList(Arrays.asList(APPLE, BANANA, MOUNT_BLANC));
+        quiz.discardFirstCard();
+
+        assertEquals(BANANA, quiz.quizCard());
+        assertEquals(3, quiz.totalCardsProperty().get());
+        assertEquals(2, quiz.remainingCardsProperty().get());
+        assertEquals(Arrays.asList(BANANA, MOUNT_BLANC), quiz.getQuizableFlashcards());
+    }
+
+    @Test
+    public void setQuizList_observableListChangesDuringQuiz_quizUnaffected() {
+        ObservableList<Flashcard> flashcards =
+                FXCollections.observableArrayList(APPLE, BANANA, MOUNT_BLANC, CHANGI_AIRPORT);
+        FilteredList<Flashcard> filteredFlashcards = new FilteredList<>(flashcards);
+        quiz.setQuizList(filteredFlashcards);
+        quiz.discardFirstCard();
+
+        flashcards.remove(MOUNT_BLANC);
+        flashcards.add(1, DAXING_AIRPORT);
+        filteredFlashcards.setPredicate(flashcard -> flashcard == APPLE);
+        flashcards.sort((first, second) -> second.getQuestion().question.compareTo(first.getQuestion().question));
+
+        assertEquals(Arrays.asList(BANANA, MOUNT_BLANC, CHANGI_AIRPORT), quiz.getQuizableFlashcards());
+        assertEquals(BANANA, quiz.quizCard());
+    }
+
+    @Test
+    public void setQuizList_observableListPermutedDuringQuiz_quizUnaffected() {
+        ObservableList<Flashcard> flashcards =
+                FXCollections.observableArrayList(APPLE, BANANA, MOUNT_BLANC, CHANGI_AIRPORT);
+        quiz.setQuizList(flashcards);
+        quiz.discardFirstCard();
+
+        flashcards.sort((first, second) -> second.getQuestion().question.compareTo(first.getQuestion().question));
+
+        assertEquals(Arrays.asList(BANANA, MOUNT_BLANC, CHANGI_AIRPORT), quiz.getQuizableFlashcards());
+    }
+
+    @Test
+    public void setQuizList_weakFlashcardSample_drawsEachCardAfterTheLastIsAnswered() {
+        Flashcard first = new FlashcardBuilder().withQuestion("First question").buildShortAnswerFlashcard();
+        Flashcard second = new FlashcardBuilder().withQuestion("Second question").buildShortAnswerFlashcard();
+        // Always lands just short of half way through the total weight
+        Random random = new Random() {
+            @Override
+            public double nextDouble() {
+                return 0.45;
+            }
+        };
+        quiz.setQuizList(new WeakFlashcardSample(List.of(first, second), 2, random));
+
+        assertSame(first, quiz.quizCard());
+        first.checkAnswer(first.getAnswer());
+        quiz.discardFirstCard();
+
+        // Drawn with the first card's new, lower error rate; with the old one the first card is drawn again
+        assertSame(second, quiz.quizCard());
+    }
+}
@@ -10,6 +10,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.chart.XYChart;
 import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.testutil.FlashcardBuilder;
 
 
 
@@ -60,6 +61,19 @@ public class StatisticsTest {
         assertEquals(correctReply, statsTester.getResults());
     }
 
+    @Test
+    public void getCorrectSeries_listChangedAfterCalculation_chartsCalculatedFlashcards() {
+        Flashcard flashcard = new FlashcardBuilder().buildShortAnswerFlashcard();
+        ObservableList<Flashcard> flashcards = FXCollections.observableArrayList(flashcard);
+        statsTester.calculate(flashcards);
+
+        flashcard.checkAnswer(flashcard.getAnswer());
+        flashcards.clear();
+
+        assertEquals(1, statsTester.getCorrectSeries().getData().size());
+        assertEquals(0, statsTester.getCorrectSeries().getData().get(0).getYValue());
+    }
+
 
 
 }
@@ -0,0 +1,102 @@
+package seedu.flashcard.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.ShortAnswerFlashcard;
+import seedu.flashcard.model.tag.Tag;
+import seedu.flashcard.testutil.FlashcardBuilder;
+
+public class StatisticsTrackerTest {
+
+    private final Flashcard everest = new FlashcardBuilder().withQuestion("How high is Mount Everest?")
+        .withTag("Geography").withScore(1, 2).buildShortAnswerFlashcard();
+    private final Flashcard nile = new FlashcardBuilder().withQuestion("How long is the Nile?")
+        .withTag("Geography", "Rivers").buildShortAnswerFlashcard();
+    private final Flashcard gotthard = new FlashcardBuilder().withQuestion("How long is the Gotthard Tunnel?")
+        .withTag("Civil Engineering").buildShortAnswerFlashcard();
+    private final ObservableList<Flashcard> flashcards = FXCollections.observableArrayList(everest, nile);
+    private final StatisticsTracker tracker = new StatisticsTracker(flashcards, flashcards::indexOf);
+
+    @Test
+    public void getTotals_listAndScoresChange_matchesCalculation() {
+        assertTotalsMatchCalculation();
+
+        flashcards.add(gotthard);
+        nile.checkAnswer(nile.getAnswer());
+        flashcards.remove(everest);
+        gotthard.skipAnswer();
+        assertTotalsMatchCalculation();
+
+        flashcards.setAll(everest, gotthard);
+        assertTotalsMatchCalculation();
+    }
+
+    @Test
+    public void getTotals_removedFlashcardScoreChanges_ignored() {
+        flashcards.remove(everest);
+        everest.checkAnswer(everest.getAnswer());
+
+        assertEquals(0, tracker.getTotals().getTotalCorrect());
+        assertEquals(0, tracker.getTotals().getTotalAttempted());
+    }
+
+    @Test
+    public void getTotals_tag_countsOnlyTaggedFlashcards() {
+        ScoreTotals geography = tracker.getTotals(new Tag("Geography"));
+        assertEquals(1, geography.getTotalCorrect());
+        assertEquals(2, geography.getTotalWrong());
+        assertEquals(1, geography.getTotalAttempted());
+        assertEquals(Arrays.asList(nile), geography.getUnattempted());
+
+        nile.skipAnswer();
+        assertEquals(2, tracker.getTotals(new Tag("Geography")).getTotalAttempted());
+        assertEquals(1, tracker.getTotals(new Tag("Rivers")).getTotalWrong());
+        assertTrue(tracker.getTotals(new Tag("Rivers")).getUnattempted().isEmpty());
+
+        flashcards.remove(nile);
+        assertTrue(tracker.getTotals(new Tag("Rivers")).isEmpty());
+    }
+
+    @Test
+    public void getTotals_unattemptedFlashcardReplaced_unattemptedInDisplayOrder() {
+        flashcards.add(gotthard);
+        Flashcard editedNile = new FlashcardBuilder((ShortAnswerFlashcard) nile).withDefinition("Edited")
+            .buildShortAnswerFlashcard();
+        flashcards.set(1, editedNile);
+
+        assertEquals(Arrays.asList(editedNile, gotthard), tracker.getTotals().getUnattempted());
+        assertTotalsMatchCalculation();
+    }
+
+    @Test
+    public void getTotals_flashcards_countsOnlyThoseFlashcards() {
+        flashcards.add(gotthard);
+        gotthard.skipAnswer();
+
+        ScoreTotals totals = tracker.getTotals(Arrays.asList(gotthard, nile));
+
+        assertEquals(0, totals.getTotalCorrect());
+        assertEquals(1, totals.getTotalWrong());
+        assertEquals(1, totals.getTotalAttempted());
+        assertEquals(Arrays.asList(nile), totals.getUnattempted());
+    }
+
+    /**
+     * Asserts that the overall totals of the tracker agree with a full calculation over the list.
+     */
+    private void assertTotalsMatchCalculation() {
+        Statistics calculated = new Statistics();
+        calculated.calculate(flashcards);
+        Statistics tracked = new Statistics();
+        tracked.setTotals(tracker.getTotals(), flashcards);
+        assertEquals(calculated.getResults(), tracked.getResults());
+    }
+}
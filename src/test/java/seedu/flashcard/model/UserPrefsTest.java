@@ -17,4 +17,11 @@ public class UserPrefsTest {
         UserPrefs userPrefs = new UserPrefs();
         assertThrows(NullPointerException.class, () -> userPrefs.setFlashcardListFilePath(null));
     }
+
+    @Test
+    public void setUndoHistoryLimit_negativeLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryLimit(-1));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryMemoryLimit(-1));
+    }
 }
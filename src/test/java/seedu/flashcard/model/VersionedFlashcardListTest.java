@@ -0,0 +1,171 @@
+package seedu.flashcard.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashcard.testutil.Assert.assertThrows;
+import static seedu.flashcard.testutil.TypicalFlashcard.APPLE;
+import static seedu.flashcard.testutil.TypicalFlashcard.BANANA;
+import static seedu.flashcard.testutil.TypicalFlashcard.CHANGI_AIRPORT;
+import static seedu.flashcard.testutil.TypicalFlashcard.MOUNT_BLANC;
+import static seedu.flashcard.testutil.TypicalFlashcard.getTypicalFlashcardList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.testutil.FlashcardBuilder;
+
+public class VersionedFlashcardListTest {
+
+    private final VersionedFlashcardList versionedFlashcardList =
+            new VersionedFlashcardList(getTypicalFlashcardList());
+
+    @Test
+    public void undo_noCommittedState_throwsNoUndoableStateException() {
+        assertFalse(versionedFlashcardList.canUndo());
+        assertThrows(VersionedFlashcardList.NoUndoableStateException.class, versionedFlashcardList::undo);
+    }
+
+    @Test
+    public void redo_noUndoneState_throwsNoRedoableStateException() {
+        versionedFlashcardList.addFlashcard(APPLE);
+        versionedFlashcardList.commit();
+        assertFalse(versionedFlashcardList.canRedo());
+        assertThrows(VersionedFlashcardList.NoRedoableStateException.class, versionedFlashcardList::redo);
+    }
+
+    @Test
+    public void undoRedo_multipleCommits_restoresEachState() {
+        List<Flashcard> initial = new ArrayList<>(versionedFlashcardList.getFlashcardList());
+
+        versionedFlashcardList.addFlashcard(APPLE);
+        versionedFlashcardList.commit();
+        List<Flashcard> afterAdd = new ArrayList<>(versionedFlashcardList.getFlashcardList());
+
+        Flashcard editedChangi = new FlashcardBuilder(CHANGI_AIRPORT).withTag("edited").buildShortAnswerFlashcard();
+        versionedFlashcardList.setFlashcard(CHANGI_AIRPORT, editedChangi);
+        versionedFlashcardList.removeFlashcard(MOUNT_BLANC);
+        versionedFlashcardList.commit();
+        List<Flashcard> afterEditAndRemove = new ArrayList<>(versionedFlashcardList.getFlashcardList());
+
+        versionedFlashcardList.undo();
+        assertEquals(afterAdd, versionedFlashcardList.getFlashcardList());
+        versionedFlashcardList.undo();
+        assertEquals(initial, versionedFlashcardList.getFlashcardList());
+        assertFalse(versionedFlashcardList.canUndo());
+
+        versionedFlashcardList.redo();
+        assertEquals(afterAdd, versionedFlashcardList.getFlashcardList());
+        versionedFlashcardList.redo();
+        assertEquals(afterEditAndRemove, versionedFlashcardList.getFlashcardList());
+        assertTrue(versionedFlashcardList.hasFlashcard(editedChangi));
+        assertFalse(versionedFlashcardList.hasFlashcard(MOUNT_BLANC));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsThem() {
+        versionedFlashcardList.addFlashcard(APPLE);
+        versionedFlashcardList.commit();
+        List<Flashcard> initial = getTypicalFlashcardList().getFlashcardList();
+
+        versionedFlashcardList.addFlashcard(BANANA);
+        versionedFlashcardList.undo();
+
+        assertEquals(initial, versionedFlashcardList.getFlashcardList());
+        assertFalse(versionedFlashcardList.hasFlashcard(BANANA));
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoableStates() {
+        versionedFlashcardList.addFlashcard(APPLE);
+        versionedFlashcardList.commit();
+        versionedFlashcardList.undo();
+
+        versionedFlashcardList.setFlashcards(Arrays.asList(BANANA));
+        versionedFlashcardList.commit();
+
+        assertFalse(versionedFlashcardList.canRedo());
+        versionedFlashcardList.undo();
+        assertEquals(getTypicalFlashcardList().getFlashcardList(), versionedFlashcardList.getFlashcardList());
+    }
+
+    @Test
+    public void undo_singleAddition_notifiesOnlyTheRemovedFlashcard() {
+        versionedFlashcardList.addFlashcard(APPLE);
+        versionedFlashcardList.commit();
+        List<Flashcard> removed = new ArrayList<>();
+        List<Flashcard> added = new ArrayList<>();
+        versionedFlashcardList.getFlashcardList().addListener((ListChangeListener<Flashcard>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        versionedFlashcardList.undo();
+
+        assertEquals(Arrays.asList(APPLE), removed);
+        assertTrue(added.isEmpty());
+    }
+
+    @Test
+    public void commit_exceedsHistoryLimit_evictsOldestDelta() {
+        VersionedFlashcardList limitedFlashcardList = new VersionedFlashcardList(getTypicalFlashcardList(), 1,
+                Long.MAX_VALUE);
+        limitedFlashcardList.addFlashcard(APPLE);
+        limitedFlashcardList.commit();
+        limitedFlashcardList.addFlashcard(BANANA);
+        limitedFlashcardList.commit();
+
+        limitedFlashcardList.undo();
+        assertFalse(limitedFlashcardList.canUndo());
+        assertTrue(limitedFlashcardList.hasFlashcard(APPLE));
+        assertFalse(limitedFlashcardList.hasFlashcard(BANANA));
+    }
+
+    @Test
+    public void commit_exceedsHistoryMemoryLimit_keepsOnlyLatestDelta() {
+        VersionedFlashcardList limitedFlashcardList = new VersionedFlashcardList(getTypicalFlashcardList(), 10, 0);
+        limitedFlashcardList.removeFlashcard(MOUNT_BLANC);
+        limitedFlashcardList.commit();
+        limitedFlashcardList.removeFlashcard(CHANGI_AIRPORT);
+        limitedFlashcardList.commit();
+
+        limitedFlashcardList.undo();
+        assertFalse(limitedFlashcardList.canUndo());
+        assertTrue(limitedFlashcardList.hasFlashcard(CHANGI_AIRPORT));
+        assertFalse(limitedFlashcardList.hasFlashcard(MOUNT_BLANC));
+    }
+
+    @Test
+    public void setHistoryLimits_smallerLimit_evictsOldestDeltas() {
+        versionedFlashcardList.addFlashcard(APPLE);
+        versionedFlashcardList.commit();
+        versionedFlashcardList.addFlashcard(BANANA);
+        versionedFlashcardList.commit();
+
+        versionedFlashcardList.setHistoryLimits(0, Long.MAX_VALUE);
+        assertFalse(versionedFlashcardList.canUndo());
+        assertThrows(IllegalArgumentException.class, () -> versionedFlashcardList.setHistoryLimits(-1, 0));
+    }
+
+    @Test
+    public void equals() {
+        VersionedFlashcardList copy = new VersionedFlashcardList(getTypicalFlashcardList());
+        assertTrue(versionedFlashcardList.equals(copy));
+
+        versionedFlashcardList.addFlashcard(APPLE);
+        versionedFlashcardList.commit();
+        copy.addFlashcard(APPLE);
+        copy.commit();
+        assertTrue(versionedFlashcardList.equals(copy));
+
+        copy.undo();
+        assertFalse(versionedFlashcardList.equals(copy));
+    }
+}
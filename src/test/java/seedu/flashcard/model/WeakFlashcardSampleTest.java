@@ -0,0 +1,59 @@
+package seedu.flashcard.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashcard.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.Score;
+import seedu.flashcard.testutil.FlashcardBuilder;
+
+public class WeakFlashcardSampleTest {
+
+    private final Flashcard weak = new FlashcardBuilder().withQuestion("How high is Mount Everest?")
+        .withScore(0, 8).buildShortAnswerFlashcard();
+    private final Flashcard strong = new FlashcardBuilder().withQuestion("How long is the Nile?")
+        .withScore(8, 0).buildShortAnswerFlashcard();
+
+    @Test
+    public void getErrorRate_smoothsShareOfWrongAnswers() {
+        assertEquals(0.5, WeakFlashcardSample.getErrorRate(new Score()), 1e-9);
+        assertEquals(0.9, WeakFlashcardSample.getErrorRate(new Score(0, 8)), 1e-9);
+        assertEquals(0.1, WeakFlashcardSample.getErrorRate(new Score(8, 0)), 1e-9);
+    }
+
+    @Test
+    public void get_manyDraws_favoursWeakFlashcard() {
+        List<Flashcard> sample = new WeakFlashcardSample(List.of(weak, strong), 10000, new Random(3));
+
+        long weakCount = sample.stream().filter(flashcard -> flashcard == weak).count();
+
+        assertEquals(10000, sample.size());
+        assertTrue(weakCount > 8700 && weakCount < 9300, "drew the weak flashcard " + weakCount + " times");
+    }
+
+    @Test
+    public void get_scoreChangesBetweenDraws_usesNewScore() {
+        List<Flashcard> sample = new WeakFlashcardSample(List.of(weak, strong), 2000, new Random(3));
+        Flashcard first = sample.get(0);
+        assertEquals(weak, first);
+
+        for (int i = 0; i < 1000; i++) {
+            weak.checkAnswer(weak.getAnswer());
+        }
+        long weakCount = sample.subList(1, sample.size()).stream().filter(flashcard -> flashcard == weak).count();
+
+        assertTrue(weakCount < 200, "drew the weak flashcard " + weakCount + " times");
+    }
+
+    @Test
+    public void get_indexOutOfRange_throwsIndexOutOfBoundsException() {
+        List<Flashcard> sample = new WeakFlashcardSample(List.of(weak), 1, new Random(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> sample.get(1));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.flashcard.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.flashcard.testutil.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class WeightTreeTest {
+
+    @Test
+    public void constructor_negativeWeight_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new WeightTree(new double[] {1, -1}));
+    }
+
+    @Test
+    public void find_knownWeights_returnsPositionWhereRunningTotalPassesValue() {
+        WeightTree tree = new WeightTree(new double[] {0.5, 0, 2, 1.5});
+
+        assertEquals(4, tree.getTotal(), 1e-9);
+        assertEquals(0, tree.find(0));
+        assertEquals(0, tree.find(0.49));
+        assertEquals(2, tree.find(0.5));
+        assertEquals(2, tree.find(2.49));
+        assertEquals(3, tree.find(2.5));
+        assertEquals(3, tree.find(3.99));
+        assertEquals(3, tree.find(4));
+    }
+
+    @Test
+    public void set_randomUpdates_matchesRunningTotals() {
+        Random random = new Random(7);
+        double[] weights = new double[37];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = random.nextDouble();
+        }
+        WeightTree tree = new WeightTree(weights);
+
+        for (int round = 0; round < 200; round++) {
+            int position = random.nextInt(weights.length);
+            weights[position] = random.nextInt(4) == 0 ? 0 : random.nextDouble();
+            tree.set(position, weights[position]);
+
+            double total = 0;
+            for (double weight : weights) {
+                total += weight;
+            }
+            assertEquals(total, tree.getTotal(), 1e-9);
+            double value = random.nextDouble() * total;
+            int expected = 0;
+            for (double runningTotal = weights[0]; runningTotal <= value; runningTotal += weights[expected]) {
+                expected++;
+            }
+            assertEquals(expected, tree.find(value));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.flashcard.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.flashcard.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DefinitionSegmentTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private DefinitionSegment segment;
+
+    @AfterEach
+    public void closeSegment() throws IOException {
+        if (segment != null) {
+            segment.close();
+        }
+    }
+
+    @Test
+    public void add_invalidDefinition_throwsIllegalArgumentException() throws Exception {
+        segment = new DefinitionSegment(tempDir.resolve("definitions"), 2);
+        assertThrows(IllegalArgumentException.class, () -> segment.add(" "));
+    }
+
+    @Test
+    public void getDefinition_moreDefinitionsThanCache_readsEachBack() throws Exception {
+        segment = new DefinitionSegment(tempDir.resolve("definitions"), 2);
+        List<Definition> definitions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            definitions.add(segment.add("Definition number " + i + " with a café and 水"));
+        }
+        assertEquals("Definition number 0 with a café and 水", definitions.get(0).getDefinition());
+        // Definitions added after the file was mapped are read by mapping it again
+        for (int i = 10; i < 20; i++) {
+            definitions.add(segment.add("Definition number " + i + " with a café and 水"));
+        }
+
+        for (int i = 0; i < definitions.size(); i++) {
+            assertEquals("Definition number " + i + " with a café and 水", definitions.get(i).toString());
+        }
+    }
+
+    @Test
+    public void equals_definitionInSegment_comparesText() throws Exception {
+        segment = new DefinitionSegment(tempDir.resolve("definitions"), 0);
+        Definition riverDefinition = segment.add("A large natural stream of water");
+
+        assertEquals(new Definition("A large natural stream of water"), riverDefinition);
+        assertEquals(riverDefinition, new Definition("A large natural stream of water"));
+        assertEquals(new Definition("A large natural stream of water").hashCode(), riverDefinition.hashCode());
+        assertNotEquals(segment.add("A large natural body of water"), riverDefinition);
+    }
+
+    @Test
+    public void getLengthInMemory_definitionInSegment_zero() throws Exception {
+        segment = new DefinitionSegment(tempDir.resolve("definitions"), 0);
+
+        assertEquals(0, segment.add("A large natural stream of water").getLengthInMemory());
+        assertEquals(31, new Definition("A large natural stream of water").getLengthInMemory());
+    }
+
+    @Test
+    public void constructor_existingFile_startsEmpty() throws Exception {
+        Path filePath = tempDir.resolve("definitions");
+        Files.write(filePath, new byte[] {1, 2, 3});
+        segment = new DefinitionSegment(filePath, 0);
+
+        assertEquals("Fresh", segment.add("Fresh").getDefinition());
+        assertEquals(5, Files.size(filePath));
+    }
+}
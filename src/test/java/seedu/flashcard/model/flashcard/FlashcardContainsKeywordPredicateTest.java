@@ -46,4 +46,31 @@ public class FlashcardContainsKeywordPredicateTest {
             new FlashcardContainsKeywordsPredicate(Collections.singletonList("Blanc"));
         assertFalse(predicate.test(new FlashcardBuilder().withAnswer("Daxing airport").buildShortAnswerFlashcard()));
     }
+
+    @Test
+    public void test_prefixKeyword_matchesWordsStartingWithIt() {
+        FlashcardContainsKeywordsPredicate predicate =
+            new FlashcardContainsKeywordsPredicate(Collections.singletonList("AIR*"));
+        assertTrue(predicate.test(new FlashcardBuilder().withAnswer("Daxing airport").buildShortAnswerFlashcard()));
+        assertFalse(predicate.test(new FlashcardBuilder().withAnswer("Daxing hair").buildShortAnswerFlashcard()));
+
+        // a lone marker is an ordinary keyword
+        predicate = new FlashcardContainsKeywordsPredicate(Collections.singletonList("*"));
+        assertFalse(predicate.test(new FlashcardBuilder().withAnswer("Daxing airport").buildShortAnswerFlashcard()));
+    }
+
+    @Test
+    public void test_typoTolerantKeyword_matchesSimilarWords() {
+        FlashcardContainsKeywordsPredicate predicate =
+            new FlashcardContainsKeywordsPredicate(Collections.singletonList("Airprot~"));
+        assertTrue(predicate.test(new FlashcardBuilder().withAnswer("Daxing airport").buildShortAnswerFlashcard()));
+        assertFalse(predicate.test(new FlashcardBuilder().withAnswer("Daxing Aero").buildShortAnswerFlashcard()));
+
+        // short keywords allow fewer typos
+        predicate = new FlashcardContainsKeywordsPredicate(Collections.singletonList("ab~"));
+        assertFalse(predicate.test(new FlashcardBuilder().withAnswer("abc").buildShortAnswerFlashcard()));
+        predicate = new FlashcardContainsKeywordsPredicate(Collections.singletonList("abc~"));
+        assertTrue(predicate.test(new FlashcardBuilder().withAnswer("abd").buildShortAnswerFlashcard()));
+        assertFalse(predicate.test(new FlashcardBuilder().withAnswer("bad").buildShortAnswerFlashcard()));
+    }
 }
@@ -1,12 +1,19 @@
 package seedu.flashcard.model.flashcard;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashcard.testutil.Assert.assertThrows;
 import static seedu.flashcard.testutil.TypicalFlashcard.MOUNT_BLANC;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.flashcard.model.tag.Tag;
 import seedu.flashcard.testutil.FlashcardBuilder;
 
 public class FlashcardTest {
@@ -41,5 +48,79 @@ public class FlashcardTest {
         Flashcard editedMountBlanc =
             new FlashcardBuilder((McqFlashcard) MOUNT_BLANC).withDefinition("Smells good").buildMcqFlashcard();
         assertFalse(MOUNT_BLANC.equals(editedMountBlanc));
+
+        Flashcard retaggedMountBlanc =
+            new FlashcardBuilder((McqFlashcard) MOUNT_BLANC).withTag("Smells good").buildMcqFlashcard();
+        assertFalse(MOUNT_BLANC.equals(retaggedMountBlanc));
+    }
+
+    @Test
+    public void tags_givenInAnyOrderWithDuplicates_sameFlashcardTags() {
+        Flashcard flashcard =
+                new FlashcardBuilder().withTag("Rivers", "Geography", "Rivers").buildShortAnswerFlashcard();
+        Flashcard reordered = new FlashcardBuilder().withTag("Geography", "Rivers").buildShortAnswerFlashcard();
+
+        assertEquals(Set.of(new Tag("Geography"), new Tag("Rivers")), flashcard.getTags());
+        assertEquals(reordered, flashcard);
+        assertEquals(reordered.hashCode(), flashcard.hashCode());
+    }
+
+    @Test
+    public void hasTag() {
+        Flashcard flashcard = new FlashcardBuilder().withTag("Geography", "Rivers").buildShortAnswerFlashcard();
+
+        assertTrue(flashcard.hasTag(new Tag("Rivers")));
+        assertFalse(flashcard.hasTag(new Tag("Mountains")));
+        assertFalse(flashcard.hasTag(new Tag("Never carried by any flashcard")));
+        assertTrue(flashcard.hasAnyTag(Set.of(new Tag("Mountains"), new Tag("Geography"))));
+        assertFalse(flashcard.hasAnyTag(Set.of(new Tag("Mountains"))));
+    }
+
+    @Test
+    public void removeTag_copySharesTags_onlyRemovesFromFlashcard() {
+        ShortAnswerFlashcard flashcard =
+            new FlashcardBuilder().withTag("Geography", "Rivers").buildShortAnswerFlashcard();
+        ShortAnswerFlashcard copy = new ShortAnswerFlashcard(flashcard);
+
+        copy.removeTag(new Tag("Geography"));
+        copy.removeTag(new Tag("Mountains"));
+
+        assertEquals(Set.of(new Tag("Rivers")), copy.getTags());
+        assertEquals(Set.of(new Tag("Geography"), new Tag("Rivers")), flashcard.getTags());
+    }
+
+    @Test
+    public void checkAnswer_listenersAddedAndRemoved_notifiesCurrentListeners() {
+        Flashcard flashcard = new FlashcardBuilder().withScore(1, 2).buildShortAnswerFlashcard();
+        List<String> notified = new ArrayList<>();
+        ScoreChangeListener first = (changed, oldCorrect, oldWrong) -> notified.add("first " + oldCorrect);
+        ScoreChangeListener second = new ScoreChangeListener() {
+            @Override
+            public void changed(Flashcard changed, int oldCorrect, int oldWrong) {
+                notified.add("second " + oldWrong);
+                changed.removeScoreListener(this);
+            }
+        };
+        flashcard.addScoreListener(first);
+        flashcard.addScoreListener(second);
+
+        flashcard.checkAnswer(flashcard.getAnswer());
+        flashcard.skipAnswer();
+        flashcard.removeScoreListener(first);
+        flashcard.checkAnswer(new Answer("Not the answer"));
+
+        assertEquals(Arrays.asList("first 1", "second 2", "first 2"), notified);
+        assertEquals(new Score(2, 4), flashcard.getScore());
+    }
+
+    @Test
+    public void checkAnswer_copyOfFlashcard_listenersNotCopied() {
+        Flashcard flashcard = new FlashcardBuilder().buildShortAnswerFlashcard();
+        List<Flashcard> notified = new ArrayList<>();
+        flashcard.addScoreListener((changed, oldCorrect, oldWrong) -> notified.add(changed));
+
+        new ShortAnswerFlashcard((ShortAnswerFlashcard) flashcard).skipAnswer();
+
+        assertTrue(notified.isEmpty());
     }
 }
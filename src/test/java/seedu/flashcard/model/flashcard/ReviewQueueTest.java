@@ -0,0 +1,60 @@
+package seedu.flashcard.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.flashcard.model.flashcard.Schedule.DAY_MILLIS;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.flashcard.testutil.FlashcardBuilder;
+
+public class ReviewQueueTest {
+
+    private final Flashcard everest = new FlashcardBuilder().withQuestion("How high is Mount Everest?")
+        .withSchedule(new Schedule(1, 1, 2.5, 3 * DAY_MILLIS)).buildShortAnswerFlashcard();
+    private final Flashcard nile = new FlashcardBuilder().withQuestion("How long is the Nile?")
+        .withSchedule(new Schedule(1, 1, 2.5, DAY_MILLIS)).buildShortAnswerFlashcard();
+    private final Flashcard gotthard = new FlashcardBuilder().withQuestion("How long is the Gotthard Tunnel?")
+        .buildShortAnswerFlashcard();
+    private final ObservableList<Flashcard> flashcards = FXCollections.observableArrayList(everest, nile);
+    private final ReviewQueue queue = new ReviewQueue(flashcards);
+
+    @Test
+    public void getDueFlashcards_longestOverdueFirst() {
+        assertEquals(List.of(), queue.getDueFlashcards(0));
+        assertEquals(List.of(nile), queue.getDueFlashcards(DAY_MILLIS));
+        assertEquals(List.of(nile, everest), queue.getDueFlashcards(5 * DAY_MILLIS));
+    }
+
+    @Test
+    public void getDueFlashcards_listChanges_followsList() {
+        flashcards.add(gotthard);
+        assertEquals(List.of(gotthard), queue.getDueFlashcards(0));
+
+        flashcards.remove(nile);
+        assertEquals(List.of(gotthard, everest), queue.getDueFlashcards(5 * DAY_MILLIS));
+
+        flashcards.setAll(nile, everest);
+        assertEquals(List.of(nile, everest), queue.getDueFlashcards(5 * DAY_MILLIS));
+    }
+
+    @Test
+    public void review_flashcardInList_movesToNewDueTime() {
+        queue.review(nile, Schedule.QUALITY_CORRECT, 2 * DAY_MILLIS);
+
+        assertEquals(8 * DAY_MILLIS, nile.getSchedule().getDueTime());
+        assertEquals(List.of(everest), queue.getDueFlashcards(5 * DAY_MILLIS));
+        assertEquals(List.of(everest, nile), queue.getDueFlashcards(8 * DAY_MILLIS));
+    }
+
+    @Test
+    public void review_flashcardNotInList_onlyReschedules() {
+        queue.review(gotthard, Schedule.QUALITY_WRONG, 0);
+
+        assertEquals(DAY_MILLIS, gotthard.getSchedule().getDueTime());
+        assertEquals(List.of(nile, everest), queue.getDueFlashcards(5 * DAY_MILLIS));
+    }
+}
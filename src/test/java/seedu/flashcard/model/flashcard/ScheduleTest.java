@@ -0,0 +1,82 @@
+package seedu.flashcard.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashcard.model.flashcard.Schedule.DAY_MILLIS;
+import static seedu.flashcard.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ScheduleTest {
+
+    @Test
+    public void constructor_invalidSchedule_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Schedule(-1, 0, 2.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Schedule(0, -1, 2.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Schedule(0, 0, 1.2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Schedule(0, 0, Double.NaN, 0));
+    }
+
+    @Test
+    public void isValidSchedule() {
+        assertTrue(Schedule.isValidSchedule("0 0 2.5 0"));
+        assertTrue(Schedule.isValidSchedule("3 15 1.3 1573000000000"));
+        assertFalse(Schedule.isValidSchedule("0 0 2.5"));
+        assertFalse(Schedule.isValidSchedule("0 0 1.0 0"));
+        assertFalse(Schedule.isValidSchedule("a 0 2.5 0"));
+        assertFalse(Schedule.isValidSchedule("0 0 2.5 soon"));
+    }
+
+    @Test
+    public void newSchedule_isDueStraightAway() {
+        assertTrue(new Schedule().isDue(0));
+    }
+
+    @Test
+    public void review_correctAnswersInARow_intervalGrows() {
+        Schedule schedule = new Schedule();
+
+        schedule = schedule.review(Schedule.QUALITY_CORRECT, 0);
+        assertEquals(1, schedule.getInterval());
+        assertEquals(DAY_MILLIS, schedule.getDueTime());
+        assertFalse(schedule.isDue(DAY_MILLIS - 1));
+        assertTrue(schedule.isDue(DAY_MILLIS));
+
+        schedule = schedule.review(Schedule.QUALITY_CORRECT, DAY_MILLIS);
+        assertEquals(6, schedule.getInterval());
+
+        schedule = schedule.review(Schedule.QUALITY_CORRECT, 7 * DAY_MILLIS);
+        assertEquals(15, schedule.getInterval());
+        assertEquals(22 * DAY_MILLIS, schedule.getDueTime());
+        assertEquals(3, schedule.getRepetitions());
+        assertEquals(Schedule.DEFAULT_EASE, schedule.getEase(), 1e-9);
+    }
+
+    @Test
+    public void review_wrongAnswer_restartsAndLowersEase() {
+        Schedule schedule = new Schedule(4, 30, 2.5, 0);
+
+        schedule = schedule.review(Schedule.QUALITY_WRONG, 0);
+
+        assertEquals(0, schedule.getRepetitions());
+        assertEquals(1, schedule.getInterval());
+        assertEquals(1.96, schedule.getEase(), 1e-9);
+        assertEquals(DAY_MILLIS, schedule.getDueTime());
+    }
+
+    @Test
+    public void review_skippedRepeatedly_easeStaysAboveMinimum() {
+        Schedule schedule = new Schedule();
+        for (int i = 0; i < 10; i++) {
+            schedule = schedule.review(Schedule.QUALITY_SKIPPED, 0);
+        }
+        assertEquals(Schedule.MIN_EASE, schedule.getEase(), 1e-9);
+    }
+
+    @Test
+    public void review_invalidQuality_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Schedule().review(6, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Schedule().review(-1, 0));
+    }
+}
@@ -4,13 +4,22 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashcard.testutil.Assert.assertThrows;
+import static seedu.flashcard.testutil.TypicalFlashcard.CHANGI_AIRPORT;
 import static seedu.flashcard.testutil.TypicalFlashcard.DAXING_AIRPORT;
 import static seedu.flashcard.testutil.TypicalFlashcard.MOUNT_BLANC;
+import static seedu.flashcard.testutil.TypicalFlashcard.TOKYO_AIRPORT;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.flashcard.model.flashcard.exceptions.CardNotFoundException;
 import seedu.flashcard.model.flashcard.exceptions.DuplicateCardException;
+import seedu.flashcard.model.tag.Tag;
 import seedu.flashcard.testutil.FlashcardBuilder;
 
 public class UniqueFlashcardListTest {
@@ -96,6 +105,20 @@ public class UniqueFlashcardListTest {
         assertEquals(expectedUniqueFlashcardList, uniqueFlashcardList);
     }
 
+    @Test
+    public void setFlashcard_afterEarlierFlashcardRemoved_replacesAtCurrentPosition() {
+        uniqueFlashcardList.add(MOUNT_BLANC);
+        uniqueFlashcardList.add(CHANGI_AIRPORT);
+        uniqueFlashcardList.add(TOKYO_AIRPORT);
+        uniqueFlashcardList.setFlashcard(TOKYO_AIRPORT, TOKYO_AIRPORT);
+        uniqueFlashcardList.remove(MOUNT_BLANC);
+
+        uniqueFlashcardList.setFlashcard(TOKYO_AIRPORT, DAXING_AIRPORT);
+        uniqueFlashcardList.setFlashcard(CHANGI_AIRPORT, MOUNT_BLANC);
+
+        assertEquals(Arrays.asList(MOUNT_BLANC, DAXING_AIRPORT), uniqueFlashcardList.asUnimodifiableObservableList());
+    }
+
     @Test
     public void setFlashcard_editedFlashcardHasNonUniqueQuestion_throwsDuplicateFlashcardException() {
         uniqueFlashcardList.add(MOUNT_BLANC);
@@ -108,6 +131,12 @@ public class UniqueFlashcardListTest {
         assertThrows(NullPointerException.class, () -> uniqueFlashcardList.remove(null));
     }
 
+    @Test
+    public void positionOf_flashcardNotInList_throwsCardNotFoundException() {
+        uniqueFlashcardList.add(DAXING_AIRPORT);
+        assertThrows(CardNotFoundException.class, () -> uniqueFlashcardList.positionOf(MOUNT_BLANC));
+    }
+
     @Test
     public void remove_flashcardDoesNotExist_throwsCardNotFoundException() {
         assertThrows(CardNotFoundException.class, () -> uniqueFlashcardList.remove(MOUNT_BLANC));
@@ -121,6 +150,47 @@ public class UniqueFlashcardListTest {
         assertEquals(expectedUniqueFlashcardList, uniqueFlashcardList);
     }
 
+    @Test
+    public void remove_existingFlashcard_noLongerContained() {
+        uniqueFlashcardList.add(DAXING_AIRPORT);
+        uniqueFlashcardList.remove(DAXING_AIRPORT);
+        assertFalse(uniqueFlashcardList.contains(DAXING_AIRPORT));
+    }
+
+    @Test
+    public void setFlashcard_editedFlashcardHasDifferentQuestion_updatesContains() {
+        uniqueFlashcardList.add(MOUNT_BLANC);
+        uniqueFlashcardList.setFlashcard(MOUNT_BLANC, DAXING_AIRPORT);
+        assertFalse(uniqueFlashcardList.contains(MOUNT_BLANC));
+        assertTrue(uniqueFlashcardList.contains(DAXING_AIRPORT));
+    }
+
+    @Test
+    public void setFlashcard_targetWithSameQuestionButDifferentFields_throwsCardNotFoundException() {
+        uniqueFlashcardList.add(MOUNT_BLANC);
+        Flashcard editedFlashcard =
+            new FlashcardBuilder((McqFlashcard) MOUNT_BLANC).withDefinition("123").buildMcqFlashcard();
+        assertThrows(CardNotFoundException.class, () -> uniqueFlashcardList.setFlashcard(editedFlashcard,
+            DAXING_AIRPORT));
+    }
+
+    @Test
+    public void setFlashcards_list_replacesContains() {
+        uniqueFlashcardList.add(MOUNT_BLANC);
+        uniqueFlashcardList.setFlashcards(Collections.singletonList(DAXING_AIRPORT));
+        assertFalse(uniqueFlashcardList.contains(MOUNT_BLANC));
+        assertTrue(uniqueFlashcardList.contains(DAXING_AIRPORT));
+    }
+
+    @Test
+    public void setFlashcards_listWithDuplicateFlashcards_throwsDuplicateFlashcardException() {
+        Flashcard editedFlashcard =
+            new FlashcardBuilder((McqFlashcard) MOUNT_BLANC).withDefinition("123").buildMcqFlashcard();
+        List<Flashcard> listWithDuplicateFlashcards = Arrays.asList(MOUNT_BLANC, DAXING_AIRPORT, editedFlashcard);
+        assertThrows(DuplicateCardException.class, () -> uniqueFlashcardList.setFlashcards(
+            listWithDuplicateFlashcards));
+    }
+
     @Test
     public void setFlashcards_nullUniqueFlashcardList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueFlashcardList.setFlashcards((UniqueFlashcardList) null));
@@ -134,4 +204,100 @@ public class UniqueFlashcardListTest {
         uniqueFlashcardList.setFlashcards(expectedUniqueFlashcardList);
         assertEquals(expectedUniqueFlashcardList, uniqueFlashcardList);
     }
+
+    @Test
+    public void getAllTags_afterRemove_dropsUnusedTags() {
+        uniqueFlashcardList.add(MOUNT_BLANC);
+        uniqueFlashcardList.add(CHANGI_AIRPORT);
+        uniqueFlashcardList.remove(MOUNT_BLANC);
+        assertEquals(new HashSet<>(Collections.singletonList(new Tag("Civil Engineering"))),
+            uniqueFlashcardList.getAllTags());
+        assertFalse(uniqueFlashcardList.anyFlashcardHasTag(new Tag("Geography")));
+    }
+
+    @Test
+    public void getFlashcardsContainingAnyWord_afterEditAndRemove_followsList() {
+        uniqueFlashcardList.add(MOUNT_BLANC);
+        uniqueFlashcardList.add(CHANGI_AIRPORT);
+        uniqueFlashcardList.add(TOKYO_AIRPORT);
+        Set<Flashcard> matching =
+            uniqueFlashcardList.getFlashcardsContainingAnyWord(Arrays.asList("AIRPORT", "tunnel"));
+        assertEquals(2, matching.size());
+        assertTrue(matching.contains(MOUNT_BLANC));
+        assertTrue(matching.contains(CHANGI_AIRPORT));
+
+        Flashcard editedChangi = new FlashcardBuilder(CHANGI_AIRPORT).withDefinition("The hub of Singapore")
+            .buildShortAnswerFlashcard();
+        uniqueFlashcardList.setFlashcard(CHANGI_AIRPORT, editedChangi);
+        uniqueFlashcardList.remove(MOUNT_BLANC);
+        assertTrue(uniqueFlashcardList.getFlashcardsContainingAnyWord(Collections.singletonList("tunnel")).isEmpty());
+        assertEquals(Collections.singleton(editedChangi),
+            uniqueFlashcardList.getFlashcardsContainingAnyWord(Collections.singletonList("hub")));
+        assertEquals(Collections.singleton(editedChangi),
+            uniqueFlashcardList.getFlashcardsContainingAnyWord(Collections.singletonList("Airport")));
+    }
+
+    @Test
+    public void getFlashcardsContainingAnyWord_flashcardsRemovedAndReadded_returnsEachOnce() {
+        uniqueFlashcardList.add(MOUNT_BLANC);
+        uniqueFlashcardList.add(CHANGI_AIRPORT);
+        uniqueFlashcardList.add(TOKYO_AIRPORT);
+        uniqueFlashcardList.remove(CHANGI_AIRPORT);
+        uniqueFlashcardList.remove(TOKYO_AIRPORT);
+        uniqueFlashcardList.add(CHANGI_AIRPORT);
+        uniqueFlashcardList.remove(MOUNT_BLANC);
+        uniqueFlashcardList.add(TOKYO_AIRPORT);
+
+        Set<Flashcard> matching = uniqueFlashcardList.getFlashcardsContainingAnyWord(Arrays.asList("how", "tunnel"));
+        assertEquals(2, matching.size());
+        assertTrue(matching.contains(CHANGI_AIRPORT));
+        assertTrue(matching.contains(TOKYO_AIRPORT));
+    }
+
+    @Test
+    public void getFlashcardsContainingAnyWord_prefixAndTypoTolerantKeywords_matchAsPredicateDoes() {
+        uniqueFlashcardList.add(MOUNT_BLANC);
+        uniqueFlashcardList.add(CHANGI_AIRPORT);
+        uniqueFlashcardList.add(TOKYO_AIRPORT);
+        List<List<String>> queries = Arrays.asList(Arrays.asList("AIR*"), Arrays.asList("airprot~"),
+            Arrays.asList("tunel~", "how*"), Arrays.asList("h*"), Arrays.asList("Blank~"), Arrays.asList("zz*"));
+        for (List<String> keywords : queries) {
+            assertIndexMatchesPredicate(keywords);
+        }
+
+        uniqueFlashcardList.remove(CHANGI_AIRPORT);
+        uniqueFlashcardList.remove(TOKYO_AIRPORT);
+        assertTrue(uniqueFlashcardList.getFlashcardsContainingAnyWord(Arrays.asList("airprot~")).isEmpty());
+        uniqueFlashcardList.add(CHANGI_AIRPORT);
+        for (List<String> keywords : queries) {
+            assertIndexMatchesPredicate(keywords);
+        }
+    }
+
+    /**
+     * Asserts that the flashcards found through the word index for {@code keywords}
+     * are those the {@code FlashcardContainsKeywordsPredicate} for {@code keywords} accepts.
+     */
+    private void assertIndexMatchesPredicate(List<String> keywords) {
+        FlashcardContainsKeywordsPredicate predicate = new FlashcardContainsKeywordsPredicate(keywords);
+        Set<Flashcard> expected = new HashSet<>();
+        uniqueFlashcardList.forEach(flashcard -> {
+            if (predicate.test(flashcard)) {
+                expected.add(flashcard);
+            }
+        });
+        assertEquals(expected, new HashSet<>(uniqueFlashcardList.getFlashcardsContainingAnyWord(keywords)));
+    }
+
+    @Test
+    public void getFlashcardsWithAnyTag_multipleTags_returnsUnion() {
+        uniqueFlashcardList.add(MOUNT_BLANC);
+        uniqueFlashcardList.add(CHANGI_AIRPORT);
+        uniqueFlashcardList.add(TOKYO_AIRPORT);
+        Set<Flashcard> tagged = uniqueFlashcardList.getFlashcardsWithAnyTag(
+            new HashSet<>(Arrays.asList(new Tag("Geography"), new Tag("Civil Engineering"))));
+        assertEquals(2, tagged.size());
+        assertTrue(tagged.contains(MOUNT_BLANC));
+        assertTrue(tagged.contains(CHANGI_AIRPORT));
+    }
 }
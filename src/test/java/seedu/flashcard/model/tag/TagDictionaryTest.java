@@ -0,0 +1,74 @@
+package seedu.flashcard.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class TagDictionaryTest {
+
+    @Test
+    public void getId_sameName_sameIdAndTag() {
+        Tag first = new Tag("Dictionary Geography");
+        int id = TagDictionary.getId(first);
+
+        assertEquals(id, TagDictionary.getId(new Tag("Dictionary Geography")));
+        assertEquals(id, TagDictionary.findId(new Tag("Dictionary Geography")));
+        assertSame(first, TagDictionary.getTag(id));
+        assertNotEquals(id, TagDictionary.getId(new Tag("Dictionary Rivers")));
+    }
+
+    @Test
+    public void findId_unknownTag_returnsNotFound() {
+        assertEquals(TagDictionary.NOT_FOUND, TagDictionary.findId(new Tag("Dictionary Never Used")));
+        assertEquals(TagDictionary.NOT_FOUND, TagDictionary.findId(new Tag("Dictionary Never Used")));
+    }
+
+    @Test
+    public void getIds_duplicatesInAnyOrder_returnsDistinctAscendingIds() {
+        int mountains = TagDictionary.getId(new Tag("Dictionary Mountains"));
+        int lakes = TagDictionary.getId(new Tag("Dictionary Lakes"));
+
+        int[] ids = TagDictionary.getIds(Arrays.asList(new Tag("Dictionary Lakes"), new Tag("Dictionary Mountains"),
+                new Tag("Dictionary Lakes")));
+
+        assertArrayEquals(new int[] {Math.min(mountains, lakes), Math.max(mountains, lakes)}, ids);
+    }
+
+    @Test
+    public void getId_manyThreadsAddingSameTags_agreeOnIds() throws Exception {
+        Callable<int[]> addTags = () -> {
+            int[] ids = new int[200];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = TagDictionary.getId(new Tag("Dictionary Concurrent " + i));
+            }
+            return ids;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<int[]>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(addTags));
+            }
+            int[] expected = results.get(0).get();
+            for (Future<int[]> result : results) {
+                assertArrayEquals(expected, result.get());
+            }
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals("Dictionary Concurrent " + i, TagDictionary.getTag(expected[i]).tagName);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.flashcard.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashcard.testutil.Assert.assertThrows;
+import static seedu.flashcard.testutil.TypicalFlashcard.getTypicalFlashcardList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.flashcard.commons.exceptions.DataConversionException;
+import seedu.flashcard.commons.exceptions.IllegalValueException;
+import seedu.flashcard.commons.util.FileUtil;
+import seedu.flashcard.model.FlashcardList;
+import seedu.flashcard.model.ReadOnlyFlashcardList;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.Schedule;
+import seedu.flashcard.testutil.FlashcardBuilder;
+
+public class BinaryFlashcardListStorageTest {
+
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+        Paths.get("src", "test", "data", "JsonSerializableFlashcardListTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readFlashcardList_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryFlashcardListStorage(testFolder.resolve("missing.deck")).readFlashcardList()
+            .isPresent());
+    }
+
+    @Test
+    public void saveFlashcardList_typicalFlashcards_readsBackSame() throws Exception {
+        FlashcardList original = getTypicalFlashcardList();
+        BinaryFlashcardListStorage storage = new BinaryFlashcardListStorage(testFolder.resolve("flashcardlist.deck"));
+        storage.saveFlashcardList(original);
+
+        assertEquals(original, new FlashcardList(storage.readFlashcardList().get()));
+    }
+
+    @Test
+    public void saveFlashcardList_scoreAndSchedule_readsBackSame() throws Exception {
+        Flashcard flashcard = new FlashcardBuilder().withChoice("Yes", "No").withScore(3, 200)
+            .withSchedule(new Schedule(4, 15, 1.9, 1234567890123L)).buildMcqFlashcard();
+        FlashcardList original = new FlashcardList();
+        original.addFlashcard(flashcard);
+        BinaryFlashcardListStorage storage = new BinaryFlashcardListStorage(testFolder.resolve("flashcardlist.deck"));
+        storage.saveFlashcardList(original);
+
+        Flashcard readBack = storage.readFlashcardList().get().getFlashcardList().get(0);
+        assertEquals(3, readBack.getScore().getCorrectAnswers());
+        assertEquals(200, readBack.getScore().getWrongAnswers());
+        assertEquals(flashcard.getSchedule(), readBack.getSchedule());
+    }
+
+    @Test
+    public void saveFlashcardList_typicalFlashcards_smallerThanJson() throws Exception {
+        FlashcardList original = getTypicalFlashcardList();
+        Path binaryFile = testFolder.resolve("flashcardlist.deck");
+        Path jsonFile = testFolder.resolve("flashcardlist.json");
+        new BinaryFlashcardListStorage(binaryFile).saveFlashcardList(original);
+        new JsonFlashcardListStorage(jsonFile, null, true).saveFlashcardList(original);
+
+        assertTrue(Files.size(binaryFile) < Files.size(jsonFile) / 2);
+    }
+
+    @Test
+    public void readFlashcardList_damagedFile_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("flashcardlist.deck");
+        BinaryFlashcardListStorage storage = new BinaryFlashcardListStorage(filePath);
+        FlashcardList previous = getTypicalFlashcardList();
+        storage.saveFlashcardList(previous);
+        storage.saveFlashcardList(new FlashcardList());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertEquals(previous, new FlashcardList(storage.readFlashcardList().get()));
+    }
+
+    @Test
+    public void readFlashcardList_damagedFileWithoutBackup_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("flashcardlist.deck");
+        BinaryFlashcardListStorage storage = new BinaryFlashcardListStorage(filePath);
+        storage.saveFlashcardList(getTypicalFlashcardList());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, storage::readFlashcardList);
+    }
+
+    @Test
+    public void readFlashcardList_notBinaryFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("flashcardlist.deck");
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(
+            SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalFlashcardList.json")));
+
+        assertThrows(DataConversionException.class, () ->
+            new BinaryFlashcardListStorage(filePath).readFlashcardList());
+    }
+
+    @Test
+    public void readFlashcardList_duplicateFlashcards_reportedAsForJson() throws Exception {
+        Path filePath = testFolder.resolve("flashcardlist.deck");
+        BinaryFlashcardListStorage storage = new BinaryFlashcardListStorage(filePath);
+        Flashcard flashcard = new FlashcardBuilder().buildShortAnswerFlashcard();
+        Flashcard other = new FlashcardBuilder().withQuestion("Other question").buildShortAnswerFlashcard();
+        ObservableList<Flashcard> flashcards = FXCollections.observableArrayList(flashcard, other, flashcard);
+        storage.saveFlashcardList(new ReadOnlyFlashcardList() {
+            @Override
+            public ObservableList<Flashcard> getFlashcardList() {
+                return flashcards;
+            }
+
+            @Override
+            public void addListener(InvalidationListener listener) {
+            }
+
+            @Override
+            public void removeListener(InvalidationListener listener) {
+            }
+        });
+
+        String expectedMessage = String.format(FlashcardListLoader.MESSAGE_INVALID_FLASHCARDS, 1)
+            + "\n" + String.format(FlashcardListLoader.MESSAGE_INVALID_FLASHCARD, 3,
+                JsonSerializableFlashcardList.MESSAGE_DUPLICATE_FLASHCARD);
+        assertThrows(DataConversionException.class, new IllegalValueException(expectedMessage).toString(),
+            storage::readFlashcardList);
+    }
+}
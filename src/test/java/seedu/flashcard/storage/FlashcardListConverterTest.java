@@ -0,0 +1,57 @@
+package seedu.flashcard.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashcard.testutil.TypicalFlashcard.getTypicalFlashcardList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.flashcard.model.FlashcardList;
+
+public class FlashcardListConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createStorage_fileExtension_formatOfExtension() {
+        assertTrue(FlashcardListConverter.createStorage(testFolder.resolve("a.deck"), null, false)
+            instanceof BinaryFlashcardListStorage);
+        assertTrue(FlashcardListConverter.createStorage(testFolder.resolve("a.fmap"), null, false)
+            instanceof MappedFlashcardListStorage);
+        assertTrue(FlashcardListConverter.createStorage(testFolder.resolve("a.json"), null, false)
+            instanceof JsonFlashcardListStorage);
+        assertTrue(FlashcardListConverter.createStorage(testFolder.resolve("a.txt"), null, false)
+            instanceof JsonFlashcardListStorage);
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameFlashcards() throws Exception {
+        FlashcardList original = getTypicalFlashcardList();
+        FlashcardStorage json = new JsonFlashcardListStorage(testFolder.resolve("flashcardlist.json"));
+        FlashcardStorage binary = new BinaryFlashcardListStorage(testFolder.resolve("flashcardlist.deck"));
+        FlashcardStorage jsonAgain = new JsonFlashcardListStorage(testFolder.resolve("converted.json"));
+        json.saveFlashcardList(original);
+
+        assertTrue(FlashcardListConverter.convert(json, binary));
+        assertTrue(FlashcardListConverter.convert(binary, jsonAgain));
+
+        assertEquals(original, new FlashcardList(binary.readFlashcardList().get()));
+        assertEquals(Files.readString(json.getFlashcardListFilePath()),
+            Files.readString(jsonAgain.getFlashcardListFilePath()));
+    }
+
+    @Test
+    public void convert_missingSource_nothingWritten() throws Exception {
+        FlashcardStorage binary = new BinaryFlashcardListStorage(testFolder.resolve("flashcardlist.deck"));
+
+        assertFalse(FlashcardListConverter.convert(
+            new JsonFlashcardListStorage(testFolder.resolve("missing.json")), binary));
+        assertFalse(Files.exists(binary.getFlashcardListFilePath()));
+    }
+}
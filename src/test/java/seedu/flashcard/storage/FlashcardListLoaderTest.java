@@ -0,0 +1,69 @@
+package seedu.flashcard.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.flashcard.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashcard.commons.exceptions.IllegalValueException;
+import seedu.flashcard.model.FlashcardList;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.Question;
+import seedu.flashcard.testutil.FlashcardBuilder;
+
+public class FlashcardListLoaderTest {
+
+    private static JsonAdaptedFlashcard createFlashcard(int number) {
+        return new JsonAdaptedFlashcard(new FlashcardBuilder().withQuestion("Question " + number)
+            .buildShortAnswerFlashcard());
+    }
+
+    private static JsonAdaptedFlashcard createInvalidFlashcard() {
+        return new JsonAdaptedFlashcard(" Question", Collections.emptyList(), "Definition", Collections.emptyList(),
+            "Answer", "0 0", "ShortAnswerFlashcard");
+    }
+
+    @Test
+    public void toModelType_severalBatches_orderOfFile() throws Exception {
+        FlashcardListLoader loader = new FlashcardListLoader(new ValuePool());
+        List<JsonAdaptedFlashcard> batch = new ArrayList<>();
+        for (int i = 0; i < FlashcardListLoader.BATCH_SIZE + 10; i++) {
+            batch.add(createFlashcard(i));
+        }
+        loader.addAll(batch.subList(0, FlashcardListLoader.BATCH_SIZE));
+        loader.addAll(batch.subList(FlashcardListLoader.BATCH_SIZE, batch.size()));
+
+        List<Flashcard> flashcards = loader.toModelType().getFlashcardList();
+
+        assertEquals(batch.size(), flashcards.size());
+        for (int i = 0; i < flashcards.size(); i++) {
+            assertEquals(new Question("Question " + i), flashcards.get(i).getQuestion());
+        }
+    }
+
+    @Test
+    public void toModelType_emptyFile_emptyList() throws Exception {
+        FlashcardListLoader loader = new FlashcardListLoader(new ValuePool());
+        loader.addAll(Collections.emptyList());
+
+        assertEquals(new FlashcardList(), loader.toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidAndDuplicateFlashcards_allReported() {
+        FlashcardListLoader loader = new FlashcardListLoader(new ValuePool());
+        loader.addAll(List.of(createFlashcard(1), createInvalidFlashcard(), createFlashcard(2)));
+        // a duplicate of a flashcard in an earlier batch
+        loader.addAll(List.of(createFlashcard(3), createFlashcard(1)));
+
+        String expectedMessage = String.format(FlashcardListLoader.MESSAGE_INVALID_FLASHCARDS, 2)
+            + "\n" + String.format(FlashcardListLoader.MESSAGE_INVALID_FLASHCARD, 2, Question.MESSAGE_CONSTRAINTS)
+            + "\n" + String.format(FlashcardListLoader.MESSAGE_INVALID_FLASHCARD, 5,
+                JsonSerializableFlashcardList.MESSAGE_DUPLICATE_FLASHCARD);
+        assertThrows(IllegalValueException.class, expectedMessage, loader::toModelType);
+    }
+}
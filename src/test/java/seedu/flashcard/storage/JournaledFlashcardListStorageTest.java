@@ -0,0 +1,254 @@
+package seedu.flashcard.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashcard.testutil.TypicalFlashcard.APPLE;
+import static seedu.flashcard.testutil.TypicalFlashcard.BANANA;
+import static seedu.flashcard.testutil.TypicalFlashcard.CHANGI_AIRPORT;
+import static seedu.flashcard.testutil.TypicalFlashcard.MOUNT_BLANC;
+import static seedu.flashcard.testutil.TypicalFlashcard.getTypicalFlashcardList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableList;
+import seedu.flashcard.model.FlashcardList;
+import seedu.flashcard.model.ReadOnlyFlashcardList;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.ReviewQueue;
+import seedu.flashcard.model.flashcard.Schedule;
+import seedu.flashcard.testutil.FlashcardBuilder;
+
+public class JournaledFlashcardListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournaledFlashcardListStorage createStorage() {
+        return new JournaledFlashcardListStorage(
+            new JsonFlashcardListStorage(testFolder.resolve("flashcardlist.json")), null);
+    }
+
+    /**
+     * Returns {@code flashcardList} as a list that reports the flashcards at {@code reviewedPositions} as reviewed.
+     */
+    private static ReadOnlyFlashcardList withReviewed(ReadOnlyFlashcardList flashcardList, int... reviewedPositions) {
+        return new ReadOnlyFlashcardList() {
+            @Override
+            public ObservableList<Flashcard> getFlashcardList() {
+                return flashcardList.getFlashcardList();
+            }
+
+            @Override
+            public int[] getReviewedPositions() {
+                return reviewedPositions;
+            }
+
+            @Override
+            public void addListener(InvalidationListener listener) {
+                flashcardList.addListener(listener);
+            }
+
+            @Override
+            public void removeListener(InvalidationListener listener) {
+                flashcardList.removeListener(listener);
+            }
+        };
+    }
+
+    private ReadOnlyFlashcardList readSnapshot() throws Exception {
+        return new JsonFlashcardListStorage(testFolder.resolve("flashcardlist.json")).readFlashcardList().get();
+    }
+
+    @Test
+    public void readFlashcardList_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage().readFlashcardList().isPresent());
+    }
+
+    @Test
+    public void saveFlashcardList_addEditDelete_journaledAndReplayed() throws Exception {
+        FlashcardList original = getTypicalFlashcardList();
+        FlashcardList flashcardList = new FlashcardList(original);
+        JournaledFlashcardListStorage storage = createStorage();
+        storage.saveFlashcardList(flashcardList);
+
+        flashcardList.addFlashcard(APPLE);
+        storage.saveFlashcardList(withReviewed(flashcardList));
+        flashcardList.setFlashcard(CHANGI_AIRPORT, BANANA);
+        storage.saveFlashcardList(withReviewed(flashcardList));
+        flashcardList.removeFlashcard(MOUNT_BLANC);
+        storage.saveFlashcardList(withReviewed(flashcardList));
+
+        // The snapshot is only written by the first save
+        assertEquals(original, new FlashcardList(readSnapshot()));
+        assertEquals(flashcardList, new FlashcardList(createStorage().readFlashcardList().get()));
+    }
+
+    @Test
+    public void saveFlashcardList_noChanges_nothingAppended() throws Exception {
+        FlashcardList flashcardList = getTypicalFlashcardList();
+        JournaledFlashcardListStorage storage = createStorage();
+        storage.saveFlashcardList(flashcardList);
+        long journalSize = Files.size(storage.getJournalFilePath());
+
+        storage.saveFlashcardList(withReviewed(flashcardList));
+
+        assertEquals(journalSize, Files.size(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveFlashcardList_addedToMappedSnapshot_onlyAdditionJournaled() throws Exception {
+        // More flashcards than the mapped list keeps decoded, so that some are decoded afresh when asked for again
+        FlashcardList snapshot = new FlashcardList();
+        for (int i = 0; i < 2 * MappedFlashcardList.DEFAULT_CACHE_SIZE; i++) {
+            snapshot.addFlashcard(new FlashcardBuilder().withQuestion("Question " + i).buildShortAnswerFlashcard());
+        }
+        Path snapshotPath = testFolder.resolve("flashcardlist.fmap");
+        new JournaledFlashcardListStorage(new MappedFlashcardListStorage(snapshotPath), null)
+            .saveFlashcardList(snapshot);
+        JournaledFlashcardListStorage storage =
+            new JournaledFlashcardListStorage(new MappedFlashcardListStorage(snapshotPath), null);
+        FlashcardList flashcardList = new FlashcardList(storage.readFlashcardList().get());
+
+        flashcardList.addFlashcard(APPLE);
+        storage.saveFlashcardList(withReviewed(flashcardList));
+
+        // The snapshot's header, the added flashcard and the end of the save
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(flashcardList, new FlashcardList(
+            new JournaledFlashcardListStorage(new MappedFlashcardListStorage(snapshotPath), null)
+                .readFlashcardList().get()));
+    }
+
+    @Test
+    public void saveFlashcardList_reviewedFlashcard_scoreAndScheduleReplayed() throws Exception {
+        Flashcard flashcard = new FlashcardBuilder().buildShortAnswerFlashcard();
+        FlashcardList flashcardList = new FlashcardList();
+        flashcardList.addFlashcard(flashcard);
+        JournaledFlashcardListStorage storage = createStorage();
+        storage.saveFlashcardList(flashcardList);
+
+        flashcard.skipAnswer();
+        new ReviewQueue(flashcardList.getFlashcardList()).review(flashcard, Schedule.QUALITY_WRONG, 1000);
+        storage.saveFlashcardList(withReviewed(flashcardList, 0));
+
+        Flashcard replayed = createStorage().readFlashcardList().get().getFlashcardList().get(0);
+        assertEquals(1, replayed.getScore().getWrongAnswers());
+        assertEquals(flashcard.getSchedule(), replayed.getSchedule());
+    }
+
+    @Test
+    public void saveFlashcardList_manyRecords_compactedIntoSnapshot() throws Exception {
+        Flashcard flashcard = new FlashcardBuilder().buildShortAnswerFlashcard();
+        FlashcardList flashcardList = new FlashcardList();
+        flashcardList.addFlashcard(flashcard);
+        JournaledFlashcardListStorage storage = createStorage();
+        storage.saveFlashcardList(flashcardList);
+        long emptyJournalSize = Files.size(storage.getJournalFilePath());
+
+        // Each save of a review appends the flashcard and the end of the save
+        for (int i = 0; i <= JournaledFlashcardListStorage.MIN_RECORDS_BEFORE_COMPACTION / 2 + 1; i++) {
+            flashcard.checkAnswer(flashcard.getAnswer());
+            storage.saveFlashcardList(withReviewed(flashcardList, 0));
+        }
+
+        assertTrue(Files.size(storage.getJournalFilePath()) < emptyJournalSize * 4);
+        assertEquals(flashcard.getScore().getCorrectAnswers(),
+            readSnapshot().getFlashcardList().get(0).getScore().getCorrectAnswers());
+        assertEquals(flashcard.getScore().getCorrectAnswers(),
+            createStorage().readFlashcardList().get().getFlashcardList().get(0).getScore().getCorrectAnswers());
+    }
+
+    @Test
+    public void saveFlashcardList_reviewsNotReported_compactedIntoSnapshot() throws Exception {
+        Flashcard flashcard = new FlashcardBuilder().buildShortAnswerFlashcard();
+        FlashcardList flashcardList = new FlashcardList();
+        flashcardList.addFlashcard(flashcard);
+        JournaledFlashcardListStorage storage = createStorage();
+        storage.saveFlashcardList(flashcardList);
+        long emptyJournalSize = Files.size(storage.getJournalFilePath());
+
+        flashcard.skipAnswer();
+        storage.saveFlashcardList(flashcardList);
+
+        assertEquals(emptyJournalSize, Files.size(storage.getJournalFilePath()));
+        assertEquals(1, readSnapshot().getFlashcardList().get(0).getScore().getWrongAnswers());
+    }
+
+    @Test
+    public void saveFlashcardList_reviewedAndReplacedFlashcards_replayedAtTheirPositions() throws Exception {
+        FlashcardList flashcardList = getTypicalFlashcardList();
+        JournaledFlashcardListStorage storage = createStorage();
+        storage.saveFlashcardList(flashcardList);
+        Flashcard last = flashcardList.getFlashcardList().get(flashcardList.getFlashcardList().size() - 1);
+
+        flashcardList.removeFlashcard(flashcardList.getFlashcardList().get(0));
+        last.skipAnswer();
+        storage.saveFlashcardList(withReviewed(flashcardList, flashcardList.getFlashcardList().size() - 1));
+
+        List<Flashcard> replayed = createStorage().readFlashcardList().get().getFlashcardList();
+        assertEquals(flashcardList.getFlashcardList(), replayed);
+        assertEquals(1, replayed.get(replayed.size() - 1).getScore().getWrongAnswers());
+    }
+
+    @Test
+    public void readFlashcardList_snapshotReplacedWithoutJournal_journalIgnored() throws Exception {
+        FlashcardList flashcardList = getTypicalFlashcardList();
+        JournaledFlashcardListStorage storage = createStorage();
+        storage.saveFlashcardList(flashcardList);
+        flashcardList.addFlashcard(APPLE);
+        storage.saveFlashcardList(withReviewed(flashcardList));
+
+        FlashcardList replacement = new FlashcardList();
+        replacement.addFlashcard(BANANA);
+        new JsonFlashcardListStorage(storage.getFlashcardListFilePath()).saveFlashcardList(replacement);
+
+        assertEquals(replacement, new FlashcardList(createStorage().readFlashcardList().get()));
+    }
+
+    @Test
+    public void readFlashcardList_damagedSnapshot_backupReadWithoutJournal() throws Exception {
+        FlashcardList previous = getTypicalFlashcardList();
+        JournaledFlashcardListStorage storage = createStorage();
+        storage.saveFlashcardList(previous);
+        FlashcardList flashcardList = new FlashcardList(previous);
+        flashcardList.removeFlashcard(MOUNT_BLANC);
+        storage.saveFlashcardList(flashcardList);
+        flashcardList.addFlashcard(APPLE);
+        storage.saveFlashcardList(withReviewed(flashcardList));
+
+        // Damage one byte of the snapshot, leaving its size and modification time as they were
+        Path snapshotPath = storage.getFlashcardListFilePath();
+        FileTime modified = Files.getLastModifiedTime(snapshotPath);
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(snapshotPath, bytes);
+        Files.setLastModifiedTime(snapshotPath, modified);
+
+        assertEquals(previous, new FlashcardList(createStorage().readFlashcardList().get()));
+    }
+
+    @Test
+    public void readFlashcardList_incompleteLastSave_droppedFromJournal() throws Exception {
+        FlashcardList flashcardList = getTypicalFlashcardList();
+        JournaledFlashcardListStorage storage = createStorage();
+        storage.saveFlashcardList(flashcardList);
+        flashcardList.addFlashcard(APPLE);
+        storage.saveFlashcardList(withReviewed(flashcardList));
+        long journalSize = Files.size(storage.getJournalFilePath());
+
+        Files.write(storage.getJournalFilePath(), "{\"op\":\"remove\",\"index\":0}\n{\"op\":\"add\",\"ind".getBytes(),
+            StandardOpenOption.APPEND);
+
+        assertEquals(flashcardList, new FlashcardList(createStorage().readFlashcardList().get()));
+        assertEquals(journalSize, Files.size(storage.getJournalFilePath()));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.flashcard.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.flashcard.testutil.TypicalFlashcard.DAXING_AIRPORT;
 
@@ -12,6 +13,8 @@ import org.junit.jupiter.api.Test;
 
 import seedu.flashcard.commons.exceptions.IllegalValueException;
 import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.McqFlashcard;
+import seedu.flashcard.model.flashcard.Schedule;
 
 public class JsonAdaptedFlashcardTest {
     private static final String INVALID_QUESTION = " ";
@@ -22,7 +25,7 @@ public class JsonAdaptedFlashcardTest {
     private static final String INVALID_TYPE = "CocoFlashcard";
 
     private static final String VALID_QUESTION = DAXING_AIRPORT.getQuestion().question;
-    private static final String VALID_DEFINITION = DAXING_AIRPORT.getDefinition().definition;
+    private static final String VALID_DEFINITION = DAXING_AIRPORT.getDefinition().getDefinition();
     private static final String VALID_ANSWER = DAXING_AIRPORT.getAnswer().answer;
     private static final JsonAdaptedChoice VALID_CHOICE_1 = new JsonAdaptedChoice("Xiongan Airport");
     private static final JsonAdaptedChoice VALID_CHOICE_2 = new JsonAdaptedChoice("Daxing Airport");
@@ -31,6 +34,8 @@ public class JsonAdaptedFlashcardTest {
     private static final JsonAdaptedTag VALID_TAG_1 = new JsonAdaptedTag("Civil Engineering");
     private static final JsonAdaptedTag VALID_TAG_2 = new JsonAdaptedTag("Geography");
     private static final String VALID_SCORE = "1 2";
+    private static final String VALID_SCHEDULE = "2 6 2.36 1573000000000";
+    private static final String INVALID_SCHEDULE = "2 6 1.0 1573000000000";
     private static final String VALID_TYPE = "ShortAnswerFlashcard";
     private static final String VALID_TYPE_2 = "McqFlashcard";
 
@@ -49,6 +54,21 @@ public class JsonAdaptedFlashcardTest {
         assertEquals(DAXING_AIRPORT, flashcard.toModelType());
     }
 
+    @Test
+    public void toModelType_samePool_sharesRepeatedValues() throws Exception {
+        ValuePool pool = new ValuePool();
+        McqFlashcard first = (McqFlashcard) new JsonAdaptedFlashcard(VALID_QUESTION, VALID_CHOICE_LIST,
+            VALID_DEFINITION, VALID_TAG_LIST, VALID_ANSWER, VALID_SCORE, VALID_TYPE_2).toModelType(pool);
+        McqFlashcard second = (McqFlashcard) new JsonAdaptedFlashcard("Which airport is in Beijing?",
+            VALID_CHOICE_LIST, new String(VALID_DEFINITION), VALID_TAG_LIST, new String(VALID_ANSWER), VALID_SCORE,
+            VALID_TYPE_2).toModelType(pool);
+
+        assertSame(first.getDefinition(), second.getDefinition());
+        assertSame(first.getAnswer(), second.getAnswer());
+        assertSame(first.getChoices().get(0), second.getChoices().get(0));
+        assertSame(first.getChoices().get(1).choice, second.getAnswer().answer);
+    }
+
     @Test
     public void toModelType_validFlashcardDetails_successOne() throws Exception {
         JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(VALID_QUESTION,
@@ -63,6 +83,27 @@ public class JsonAdaptedFlashcardTest {
         Flashcard myCard = flashcard.toModelType();
     }
 
+    @Test
+    public void toModelType_validSchedule_returnsFlashcardWithSchedule() throws Exception {
+        JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(VALID_QUESTION,
+            null, VALID_DEFINITION, null, VALID_ANSWER, VALID_SCORE, VALID_SCHEDULE, VALID_TYPE);
+        assertEquals(new Schedule(2, 6, 2.36, 1573000000000L), flashcard.toModelType().getSchedule());
+    }
+
+    @Test
+    public void toModelType_missingSchedule_returnsFlashcardDueStraightAway() throws Exception {
+        JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(VALID_QUESTION,
+            null, VALID_DEFINITION, null, VALID_ANSWER, VALID_SCORE, VALID_TYPE);
+        assertEquals(new Schedule(), flashcard.toModelType().getSchedule());
+    }
+
+    @Test
+    public void toModelType_invalidSchedule_throwsIllegalValueException() {
+        JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(VALID_QUESTION,
+            null, VALID_DEFINITION, null, VALID_ANSWER, VALID_SCORE, INVALID_SCHEDULE, VALID_TYPE);
+        assertThrows(IllegalValueException.class, flashcard::toModelType);
+    }
+
     @Test
     public void toModelType_invalidQuestion_throwsIllegalValueException() {
         JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(INVALID_QUESTION,
@@ -0,0 +1,154 @@
+package seedu.flashcard.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashcard.testutil.Assert.assertThrows;
+import static seedu.flashcard.testutil.TypicalFlashcard.getTypicalFlashcardList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.flashcard.commons.exceptions.DataConversionException;
+import seedu.flashcard.commons.util.FileUtil;
+import seedu.flashcard.commons.util.JsonUtil;
+import seedu.flashcard.model.FlashcardList;
+import seedu.flashcard.model.ReadOnlyFlashcardList;
+import seedu.flashcard.model.flashcard.Flashcard;
+
+public class JsonFlashcardListStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonFlashcardListStorageTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+        Paths.get("src", "test", "data", "JsonSerializableFlashcardListTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private ReadOnlyFlashcardList readFlashcardList(Path filePath) throws DataConversionException {
+        return new JsonFlashcardListStorage(filePath).readFlashcardList().get();
+    }
+
+    @Test
+    public void readFlashcardList_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonFlashcardListStorage(TEST_DATA_FOLDER.resolve("missing.json")).readFlashcardList()
+            .isPresent());
+    }
+
+    @Test
+    public void readFlashcardList_typicalFile_sameAsReadingWholeFile() throws Exception {
+        Path filePath = SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalFlashcardList.json");
+        List<Flashcard> expected = JsonUtil.readJsonFile(filePath, JsonSerializableFlashcardList.class).get()
+            .toModelType().getFlashcardList();
+
+        assertEquals(expected, readFlashcardList(filePath).getFlashcardList());
+    }
+
+    @Test
+    public void readFlashcardList_fieldsAroundFlashcards_readsFlashcards() throws Exception {
+        List<Flashcard> flashcards =
+            readFlashcardList(TEST_DATA_FOLDER.resolve("fieldsAroundFlashcardList.json")).getFlashcardList();
+
+        assertEquals(2, flashcards.size());
+        assertEquals("Pando", flashcards.get(0).getAnswer().answer);
+        assertEquals("Mars & Murrie", flashcards.get(1).getAnswer().answer);
+    }
+
+    @Test
+    public void readFlashcardList_noFlashcardsField_emptyList() throws Exception {
+        assertEquals(List.of(),
+            readFlashcardList(TEST_DATA_FOLDER.resolve("noFlashcardList.json")).getFlashcardList());
+    }
+
+    @Test
+    public void readFlashcardList_notJsonAfterFlashcards_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () ->
+            readFlashcardList(TEST_DATA_FOLDER.resolve("notJsonAfterFlashcardList.json")));
+    }
+
+    @Test
+    public void readFlashcardList_invalidFiles_throwDataConversionException() {
+        for (String fileName : List.of("duplicateFlashcardList.json", "invalidFlashcardList.json",
+                "invalidMCQFlashcardList.json")) {
+            assertThrows(DataConversionException.class, () ->
+                readFlashcardList(SERIALIZABLE_TEST_DATA_FOLDER.resolve(fileName)));
+        }
+    }
+
+    @Test
+    public void saveFlashcardList_pretty_sameAsWritingWholeList() throws Exception {
+        FlashcardList original = getTypicalFlashcardList();
+        Path filePath = testFolder.resolve("pretty.json");
+        new JsonFlashcardListStorage(filePath).saveFlashcardList(original);
+
+        assertTrue(FileUtil.readFromFile(filePath).startsWith(
+            JsonUtil.toJsonString(new JsonSerializableFlashcardList(original)) + "\n// crc32 "));
+    }
+
+    @Test
+    public void saveFlashcardList_compact_noLineBreaksAndReadsBack() throws Exception {
+        FlashcardList original = getTypicalFlashcardList();
+        Path filePath = testFolder.resolve("compact.json");
+        JsonFlashcardListStorage storage = new JsonFlashcardListStorage(filePath, null, true);
+        storage.saveFlashcardList(original);
+
+        String content = FileUtil.readFromFile(filePath);
+        assertFalse(content.substring(0, content.lastIndexOf("\n// crc32 ")).contains("\n"));
+        assertTrue(content.startsWith("{\"flashcards\":[{"));
+        assertEquals(original, new FlashcardList(storage.readFlashcardList().get()));
+    }
+
+    @Test
+    public void saveFlashcardList_existingFile_previousKeptAsBackup() throws Exception {
+        Path filePath = testFolder.resolve("flashcardlist.json");
+        JsonFlashcardListStorage storage = new JsonFlashcardListStorage(filePath);
+        FlashcardList previous = getTypicalFlashcardList();
+        storage.saveFlashcardList(previous);
+        storage.saveFlashcardList(new FlashcardList());
+
+        assertEquals(previous, new FlashcardList(readFlashcardList(FileUtil.getBackupPath(filePath))));
+        assertEquals(new FlashcardList(), new FlashcardList(readFlashcardList(filePath)));
+    }
+
+    @Test
+    public void readFlashcardList_checksumMismatch_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("flashcardlist.json");
+        JsonFlashcardListStorage storage = new JsonFlashcardListStorage(filePath);
+        FlashcardList previous = getTypicalFlashcardList();
+        storage.saveFlashcardList(previous);
+        storage.saveFlashcardList(new FlashcardList());
+
+        // Still valid Json, so only the checksum tells it apart
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.replace("[", "[ "));
+
+        assertEquals(previous, new FlashcardList(readFlashcardList(filePath)));
+    }
+
+    @Test
+    public void readFlashcardList_truncatedFileWithoutBackup_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("flashcardlist.json");
+        new JsonFlashcardListStorage(filePath).saveFlashcardList(getTypicalFlashcardList());
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.substring(0, content.length() / 2));
+
+        assertThrows(DataConversionException.class, () -> readFlashcardList(filePath));
+    }
+
+    @Test
+    public void readFlashcardList_missingFileWithBackup_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("flashcardlist.json");
+        JsonFlashcardListStorage storage = new JsonFlashcardListStorage(filePath);
+        FlashcardList previous = getTypicalFlashcardList();
+        storage.saveFlashcardList(previous);
+        storage.saveFlashcardList(new FlashcardList());
+        Files.delete(filePath);
+
+        assertEquals(previous, new FlashcardList(readFlashcardList(filePath)));
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.flashcard.commons.core.GuiSettings;
 import seedu.flashcard.commons.exceptions.DataConversionException;
+import seedu.flashcard.commons.util.FileUtil;
 import seedu.flashcard.model.UserPrefs;
 
 public class JsonUserPrefsTest {
@@ -90,6 +91,21 @@ public class JsonUserPrefsTest {
         assertEquals(original, readBack);
     }
 
+    @Test
+    public void readUserPrefs_truncatedFile_previousPrefsRead() throws DataConversionException, IOException {
+        UserPrefs previous = new UserPrefs();
+        previous.setGuiSettings(new GuiSettings(1200, 200, 0, 2));
+        Path prefsFilePath = testFolder.resolve("TempPrefs.json");
+        JsonUserPrefsStorage jsonUserPrefsStorage = new JsonUserPrefsStorage(prefsFilePath);
+        jsonUserPrefsStorage.saveUserPrefs(previous);
+        jsonUserPrefsStorage.saveUserPrefs(new UserPrefs());
+
+        String content = FileUtil.readFromFile(prefsFilePath);
+        FileUtil.writeToFile(prefsFilePath, content.substring(0, content.length() / 2));
+
+        assertEquals(previous, jsonUserPrefsStorage.readUserPrefs().get());
+    }
+
     private Optional<UserPrefs> readUserPrefs(String userPrefsFileInTestDataFolder) throws DataConversionException {
         Path prefsFilePath = addToTestDataPathIfNotNull(userPrefsFileInTestDataFolder);
         return new JsonUserPrefsStorage(prefsFilePath).readUserPrefs(prefsFilePath);
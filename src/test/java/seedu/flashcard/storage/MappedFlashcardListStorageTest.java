@@ -0,0 +1,124 @@
+package seedu.flashcard.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.flashcard.testutil.Assert.assertThrows;
+import static seedu.flashcard.testutil.TypicalFlashcard.getTypicalFlashcardList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.flashcard.commons.exceptions.DataConversionException;
+import seedu.flashcard.commons.util.FileUtil;
+import seedu.flashcard.model.FlashcardList;
+import seedu.flashcard.model.ReadOnlyFlashcardList;
+import seedu.flashcard.model.flashcard.Flashcard;
+import seedu.flashcard.model.flashcard.Schedule;
+import seedu.flashcard.testutil.FlashcardBuilder;
+
+public class MappedFlashcardListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readFlashcardList_missingFile_emptyResult() throws Exception {
+        assertFalse(new MappedFlashcardListStorage(testFolder.resolve("missing.fmap")).readFlashcardList()
+            .isPresent());
+    }
+
+    @Test
+    public void saveFlashcardList_typicalFlashcards_readsBackSame() throws Exception {
+        FlashcardList original = getTypicalFlashcardList();
+        MappedFlashcardListStorage storage = new MappedFlashcardListStorage(testFolder.resolve("flashcardlist.fmap"));
+        storage.saveFlashcardList(original);
+
+        assertEquals(original, new FlashcardList(storage.readFlashcardList().get()));
+    }
+
+    @Test
+    public void saveFlashcardList_scoreAndSchedule_readsBackSame() throws Exception {
+        Flashcard flashcard = new FlashcardBuilder().withChoice("Yes", "No").withScore(3, 200)
+            .withSchedule(new Schedule(4, 15, 1.9, 1234567890123L)).buildMcqFlashcard();
+        FlashcardList original = new FlashcardList();
+        original.addFlashcard(flashcard);
+        MappedFlashcardListStorage storage = new MappedFlashcardListStorage(testFolder.resolve("flashcardlist.fmap"));
+        storage.saveFlashcardList(original);
+
+        Flashcard readBack = storage.readFlashcardList().get().getFlashcardList().get(0);
+        assertEquals(3, readBack.getScore().getCorrectAnswers());
+        assertEquals(200, readBack.getScore().getWrongAnswers());
+        assertEquals(flashcard.getSchedule(), readBack.getSchedule());
+    }
+
+    @Test
+    public void getFlashcardList_sameFlashcardTwice_decodedOnce() throws Exception {
+        MappedFlashcardListStorage storage = new MappedFlashcardListStorage(testFolder.resolve("flashcardlist.fmap"));
+        storage.saveFlashcardList(getTypicalFlashcardList());
+
+        List<Flashcard> flashcards = storage.readFlashcardList().get().getFlashcardList();
+
+        assertSame(flashcards.get(1), flashcards.get(1));
+    }
+
+    @Test
+    public void readFlashcardList_damagedFlashcard_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("flashcardlist.fmap");
+        MappedFlashcardListStorage storage = new MappedFlashcardListStorage(filePath);
+        FlashcardList previous = getTypicalFlashcardList();
+        storage.saveFlashcardList(previous);
+        storage.saveFlashcardList(previous);
+        byte[] bytes = Files.readAllBytes(filePath);
+        // The first flashcard starts right after the header, with its type and question
+        bytes[MappedFlashcardListStorage.HEADER_LENGTH + 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        ReadOnlyFlashcardList readBack = storage.readFlashcardList().get();
+
+        assertEquals(FileUtil.getBackupPath(filePath), storage.getLastReadFilePath());
+        assertEquals(previous, new FlashcardList(readBack));
+    }
+
+    @Test
+    public void readFlashcardList_damagedFlashcardWithoutBackup_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("flashcardlist.fmap");
+        MappedFlashcardListStorage storage = new MappedFlashcardListStorage(filePath);
+        storage.saveFlashcardList(getTypicalFlashcardList());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[MappedFlashcardListStorage.HEADER_LENGTH + 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, storage::readFlashcardList);
+    }
+
+    @Test
+    public void readFlashcardList_damagedFooter_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("flashcardlist.fmap");
+        MappedFlashcardListStorage storage = new MappedFlashcardListStorage(filePath);
+        FlashcardList previous = getTypicalFlashcardList();
+        storage.saveFlashcardList(previous);
+        storage.saveFlashcardList(new FlashcardList());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertEquals(previous, new FlashcardList(storage.readFlashcardList().get()));
+    }
+
+    @Test
+    public void readFlashcardList_truncatedFileWithoutBackup_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("flashcardlist.fmap");
+        MappedFlashcardListStorage storage = new MappedFlashcardListStorage(filePath);
+        storage.saveFlashcardList(getTypicalFlashcardList());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, storage::readFlashcardList);
+    }
+}
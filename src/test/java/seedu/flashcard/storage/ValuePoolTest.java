@@ -0,0 +1,50 @@
+package seedu.flashcard.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashcard.model.flashcard.Answer;
+import seedu.flashcard.model.flashcard.Choice;
+
+public class ValuePoolTest {
+
+    private final ValuePool pool = new ValuePool();
+
+    @Test
+    public void getAnswer_sameText_sameAnswer() {
+        Answer answer = pool.getAnswer("True");
+        assertEquals(0, pool.getBytesSaved());
+
+        assertSame(answer, pool.getAnswer(new String("True")));
+        assertTrue(pool.getBytesSaved() > 0);
+    }
+
+    @Test
+    public void getAnswer_differentCase_differentAnswers() {
+        Answer answer = pool.getAnswer("True");
+
+        assertNotSame(answer, pool.getAnswer("true"));
+        assertEquals("true", pool.getAnswer("true").answer);
+    }
+
+    @Test
+    public void getChoice_textOfAnswer_sharesText() {
+        Answer answer = pool.getAnswer("False");
+        Choice choice = pool.getChoice(new String("False"));
+
+        assertSame(answer.answer, choice.choice);
+        assertTrue(pool.getBytesSaved() > 0);
+    }
+
+    @Test
+    public void getDefinition_differentText_nothingSaved() {
+        pool.getDefinition("A river in Africa");
+        pool.getDefinition("A river in Asia");
+
+        assertEquals(0, pool.getBytesSaved());
+    }
+}
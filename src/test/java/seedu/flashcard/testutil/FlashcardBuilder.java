@@ -10,6 +10,7 @@ import seedu.flashcard.model.flashcard.Choice;
 import seedu.flashcard.model.flashcard.Definition;
 import seedu.flashcard.model.flashcard.McqFlashcard;
 import seedu.flashcard.model.flashcard.Question;
+import seedu.flashcard.model.flashcard.Schedule;
 import seedu.flashcard.model.flashcard.Score;
 import seedu.flashcard.model.flashcard.ShortAnswerFlashcard;
 import seedu.flashcard.model.tag.Tag;
@@ -30,6 +31,7 @@ public class FlashcardBuilder {
     private Set<Tag> tags;
     private List<Choice> choices;
     private Score score;
+    private Schedule schedule;
 
     public FlashcardBuilder() {
         question = new Question(DEFAULT_QUESTION);
@@ -38,6 +40,7 @@ public class FlashcardBuilder {
         tags = new HashSet<Tag>();
         choices = new ArrayList<Choice>();
         score = new Score();
+        schedule = new Schedule();
     }
 
     /**
@@ -50,6 +53,7 @@ public class FlashcardBuilder {
         this.tags = flashcard.getTags();
         this.definition = flashcard.getDefinition();
         this.score = flashcard.getScore();
+        this.schedule = flashcard.getSchedule();
     }
 
     /**
@@ -63,6 +67,7 @@ public class FlashcardBuilder {
         this.definition = flashcard.getDefinition();
         this.choices = flashcard.getChoices();
         this.score = flashcard.getScore();
+        this.schedule = flashcard.getSchedule();
     }
 
     /**
@@ -113,12 +118,20 @@ public class FlashcardBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Schedule} of the {@code Flashcard} that we are building.
+     */
+    public FlashcardBuilder withSchedule(Schedule schedule) {
+        this.schedule = schedule;
+        return this;
+    }
+
     public ShortAnswerFlashcard buildShortAnswerFlashcard() {
-        return new ShortAnswerFlashcard(question, definition, tags, answer, score);
+        return new ShortAnswerFlashcard(question, definition, tags, answer, score, schedule);
     }
 
     public McqFlashcard buildMcqFlashcard() {
-        return new McqFlashcard(question, choices, definition, tags, answer, score);
+        return new McqFlashcard(question, choices, definition, tags, answer, score, schedule);
     }
 
 }
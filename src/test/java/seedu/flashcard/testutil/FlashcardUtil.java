@@ -37,7 +37,7 @@ public class FlashcardUtil {
     public static String getFlashcardDetails(ShortAnswerFlashcard flashcard) {
         StringBuilder sb = new StringBuilder();
         sb.append(PREFIX_QUESTION + flashcard.getQuestion().question + " ");
-        sb.append(PREFIX_DEFINITION + flashcard.getDefinition().definition + " ");
+        sb.append(PREFIX_DEFINITION + flashcard.getDefinition().getDefinition() + " ");
         sb.append(PREFIX_ANSWER + flashcard.getAnswer().answer + " ");
         flashcard.getTags().stream().forEach(
             s -> sb.append(PREFIX_TAG + s.tagName + " ")
@@ -52,7 +52,7 @@ public class FlashcardUtil {
     public static String getFlashcardDetails(McqFlashcard flashcard) {
         StringBuilder sb = new StringBuilder();
         sb.append(PREFIX_QUESTION + flashcard.getQuestion().question + " ");
-        sb.append(PREFIX_DEFINITION + flashcard.getDefinition().definition + " ");
+        sb.append(PREFIX_DEFINITION + flashcard.getDefinition().getDefinition() + " ");
         sb.append(PREFIX_ANSWER + flashcard.getAnswer().answer + " ");
         flashcard.getTags().stream().forEach(
             s -> sb.append(PREFIX_TAG + s.tagName + " ")
@@ -71,7 +71,7 @@ public class FlashcardUtil {
         descriptor.getQuestion().ifPresent(question
             -> sb.append(PREFIX_QUESTION).append(question.question).append(" "));
         descriptor.getDefinition().ifPresent(definition
-            -> sb.append(PREFIX_DEFINITION).append(definition.definition).append(" "));
+            -> sb.append(PREFIX_DEFINITION).append(definition.getDefinition()).append(" "));
         descriptor.getAnswer().ifPresent(answer -> sb.append(PREFIX_ANSWER).append(answer.answer).append(" "));
         if (descriptor.getTags().isPresent()) {
             Set<Tag> tags = descriptor.getTags().get();